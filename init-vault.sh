@@ -12,9 +12,14 @@ until curl -s "$VAULT_ADDR/v1/sys/health"; do
 done
 
 JWT_SECRET=$(openssl rand -base64 64 | tr -d '\n')
+JWT_KEY_ID="k$(date +%Y%m%d%H%M%S)"
 
 vault login $VAULT_TOKEN >/dev/null
-vault kv put secret/acme-platform jwt.secret="$JWT_SECRET"
+vault kv put secret/acme-platform jwt.active-kid="$JWT_KEY_ID" "jwt.keys.$JWT_KEY_ID=$JWT_SECRET"
+
+# Rotation (picked up by the running application within jwt.keyring.refresh-interval):
+#   vault kv patch secret/acme-platform jwt.keys.<new-kid>=<secret> jwt.active-kid=<new-kid>
+# Keep the previous key until the refresh tokens it signed have expired, then remove it.
 
 echo "Secret stored:"
 vault kv get secret/acme-platform
\ No newline at end of file
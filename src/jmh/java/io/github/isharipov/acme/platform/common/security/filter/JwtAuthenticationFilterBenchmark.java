@@ -0,0 +1,91 @@
+package io.github.isharipov.acme.platform.common.security.filter;
+
+import io.github.isharipov.acme.platform.auth.domain.UserAuth.UserStatus;
+import io.github.isharipov.acme.platform.common.security.account.AccountDirectory;
+import io.github.isharipov.acme.platform.common.security.key.JwtKeyring;
+import io.github.isharipov.acme.platform.common.security.token.TokenRevocationStore;
+import io.github.isharipov.acme.platform.common.security.token.VerifiedTokenCache;
+import io.github.isharipov.acme.platform.common.service.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authenticates one request end to end, either with the token already in the verified-token cache
+ * or with the cache cleared so the signature is checked again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private JwtAuthenticationFilter filter;
+    private VerifiedTokenCache verifiedTokenCache;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        var jwtTokenProvider = new JwtTokenProvider(new JwtKeyring(new MockEnvironment()
+                .withProperty("jwt.active-kid", "k1")
+                .withProperty("jwt.keys.k1", "benchmark-secret-value-long-enough-for-hs256-signing")));
+        var meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(100_000, meterRegistry);
+        var authId = UUID.randomUUID();
+        var accountDirectory = new AccountDirectory(100_000, meterRegistry);
+        var profileId = UUID.randomUUID();
+        accountDirectory.put(authId, UserStatus.ACTIVE, profileId);
+        filter = new JwtAuthenticationFilter(
+                jwtTokenProvider,
+                verifiedTokenCache,
+                new TokenRevocationStore(100_000, 0.01, meterRegistry),
+                accountDirectory,
+                (request, response, exception) -> {
+                    throw new IllegalStateException("Benchmark token was rejected", exception);
+                },
+                Set.of());
+        var token = jwtTokenProvider.generateAccessToken(authId.toString(), "benchmark.user@example.com", profileId);
+        request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object doFilterInternal() throws Exception {
+        if (!cached) {
+            verifiedTokenCache.invalidateAll();
+        }
+        filter.doFilterInternal(request, response, NO_OP_CHAIN);
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
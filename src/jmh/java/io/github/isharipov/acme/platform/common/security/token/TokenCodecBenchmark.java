@@ -0,0 +1,98 @@
+package io.github.isharipov.acme.platform.common.security.token;
+
+import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.github.isharipov.acme.platform.common.security.key.JwtKeyring;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link HmacTokenCodec} with the generic jjwt builder and parser it replaced, for the same claim set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenCodecBenchmark {
+
+    private static final Duration TTL = Duration.ofMinutes(15);
+
+    private JwtKeyring jwtKeyring;
+    private HmacTokenCodec codec;
+    private JwtParser jjwtParser;
+    private String subject;
+    private String email;
+    private UUID profileId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtKeyring = new JwtKeyring(new MockEnvironment()
+                .withProperty("jwt.active-kid", "k1")
+                .withProperty("jwt.keys.k1", "benchmark-secret-value-long-enough-for-hs256-signing"));
+        codec = new HmacTokenCodec(jwtKeyring);
+        jjwtParser = Jwts.parser()
+                .verifyWith(jwtKeyring.signingKey().key())
+                .build();
+        subject = UUID.randomUUID().toString();
+        email = "benchmark.user@example.com";
+        profileId = UUID.randomUUID();
+        token = codec.encode(TokenType.ACCESS, subject, email, profileId, TTL);
+    }
+
+    @Benchmark
+    public String encodeCodec() {
+        return codec.encode(TokenType.ACCESS, subject, email, profileId, TTL);
+    }
+
+    @Benchmark
+    public String encodeJjwt() {
+        var signingKey = jwtKeyring.signingKey();
+        return Jwts.builder()
+                .header().keyId(signingKey.keyId()).and()
+                .id(UUID.randomUUID().toString())
+                .claim("typ", TokenType.ACCESS.claim())
+                .subject(subject)
+                .claim("email", email)
+                .claim("pid", profileId.toString())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TTL.toMillis()))
+                .signWith(signingKey.key(), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public Principal decodeCodec() {
+        return codec.decode(token);
+    }
+
+    @Benchmark
+    public Principal decodeJjwt() {
+        Claims claims = jjwtParser.parseSignedClaims(token).getPayload();
+        return new Principal(
+                UUID.fromString(claims.getSubject()),
+                claims.get("email", String.class),
+                UUID.fromString(claims.get("pid", String.class)),
+                claims.getId(),
+                claims.getExpiration().toInstant(),
+                TokenType.fromClaim(claims.get("typ", String.class), claims.get("email", String.class)));
+    }
+}
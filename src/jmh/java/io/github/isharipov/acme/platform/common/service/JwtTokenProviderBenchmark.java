@@ -0,0 +1,55 @@
+package io.github.isharipov.acme.platform.common.service;
+
+import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.github.isharipov.acme.platform.common.dto.TokenOutboundDto;
+import io.github.isharipov.acme.platform.common.security.key.JwtKeyring;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String subject;
+    private String email;
+    private UUID profileId;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(new JwtKeyring(new MockEnvironment()
+                .withProperty("jwt.active-kid", "k1")
+                .withProperty("jwt.keys.k1", "benchmark-secret-value-long-enough-for-hs256-signing")));
+        subject = UUID.randomUUID().toString();
+        email = "benchmark.user@example.com";
+        profileId = UUID.randomUUID();
+        accessToken = jwtTokenProvider.generateAccessToken(subject, email, profileId);
+    }
+
+    @Benchmark
+    public TokenOutboundDto generateTokens() {
+        return jwtTokenProvider.generateTokens(subject, email, profileId);
+    }
+
+    @Benchmark
+    public Principal parseToken() {
+        return jwtTokenProvider.parseToken(accessToken);
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.isharipov.acme.platform.common.threading;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves bursts of I/O-bound requests, each blocking for {@code ioMillis} like a database round trip, on a
+ * platform thread pool sized like Tomcat's default ({@code server.tomcat.threads.max=200}) and on one virtual
+ * thread per request. The score is requests per second; p50 and p99 request latency, including time spent
+ * queued for a thread, are printed after each iteration. The {@code virtual} executor needs a Java 21 runtime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestExecutorBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 2000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int MAX_SAMPLES = 1_000_000;
+
+    @Param({"platform", "virtual"})
+    public String executor;
+
+    @Param({"10"})
+    public int ioMillis;
+
+    private ExecutorService executorService;
+    private long[] latencies;
+    private AtomicInteger samples;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        executorService = "virtual".equals(executor)
+                ? (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null)
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+        latencies = new long[MAX_SAMPLES];
+    }
+
+    @Setup(Level.Iteration)
+    public void resetLatencies() {
+        samples = new AtomicInteger();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printLatencies() {
+        var recorded = Arrays.copyOf(latencies, Math.min(samples.get(), MAX_SAMPLES));
+        Arrays.sort(recorded);
+        if (recorded.length > 0) {
+            System.out.printf("%n%s threads: %d requests, p50 %.1f ms, p99 %.1f ms%n", executor, recorded.length,
+                    percentile(recorded, 0.50), percentile(recorded, 0.99));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public void serveBurst() {
+        var requests = new CompletableFuture<?>[CONCURRENT_REQUESTS];
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            var submittedAt = System.nanoTime();
+            requests[i] = CompletableFuture.runAsync(() -> handle(submittedAt), executorService);
+        }
+        CompletableFuture.allOf(requests).join();
+    }
+
+    private void handle(long submittedAt) {
+        Blackhole.consumeCPU(1_000);
+        try {
+            Thread.sleep(ioMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        var sample = samples.getAndIncrement();
+        if (sample < MAX_SAMPLES) {
+            latencies[sample] = System.nanoTime() - submittedAt;
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.isharipov.acme.platform.common.util;
+
+import io.github.isharipov.acme.platform.common.exception.model.ApiError;
+import io.github.isharipov.acme.platform.common.exception.model.FieldValidationError;
+import io.github.isharipov.acme.platform.common.exception.model.ErrorResponse;
+import io.github.isharipov.acme.platform.user.rest.dto.UserProfileOutboundDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUtilBenchmark {
+
+    private UserProfileOutboundDto userProfile;
+    private ErrorResponse errorResponse;
+
+    @Setup
+    public void setUp() {
+        userProfile = new UserProfileOutboundDto(UUID.randomUUID(), "benchmark.user@example.com", "Benchmark User");
+        errorResponse = new ErrorResponse("Validation error", List.<ApiError>of(
+                new FieldValidationError("email", "Login must be a valid email"),
+                new FieldValidationError("password", "Password must contain at least one letter and one number")));
+    }
+
+    @Benchmark
+    public String userProfileToJson() {
+        return JsonUtil.toJson(userProfile);
+    }
+
+    @Benchmark
+    public String errorResponseToJson() {
+        return JsonUtil.toJson(errorResponse);
+    }
+}
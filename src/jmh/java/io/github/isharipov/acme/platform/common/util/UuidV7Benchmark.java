@@ -0,0 +1,99 @@
+package io.github.isharipov.acme.platform.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput of random version 4 ids against time-ordered {@link UuidV7} ids into a table keyed by a UUID
+ * primary key. Runs against in-memory H2 by default; pass {@code -Duuid-benchmark.jdbc-url=jdbc:postgresql://...}
+ * (plus {@code .username} and {@code .password}) to measure PostgreSQL, which also reports the primary key index
+ * size at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UuidV7Benchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String TABLE = "uuid_benchmark";
+
+    @Param({"random", "v7"})
+    public String idType;
+
+    private Supplier<UUID> ids;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        ids = "v7".equals(idType) ? UuidV7::generate : UUID::randomUUID;
+        connection = DriverManager.getConnection(
+                System.getProperty("uuid-benchmark.jdbc-url", "jdbc:h2:mem:uuid-benchmark;DB_CLOSE_DELAY=-1"),
+                System.getProperty("uuid-benchmark.username", "sa"),
+                System.getProperty("uuid-benchmark.password", ""));
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id UUID PRIMARY KEY, name VARCHAR(64))");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO " + TABLE + " (id, name) VALUES (?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (connection.getMetaData().getDatabaseProductName().contains("PostgreSQL")) {
+            try (var statement = connection.createStatement();
+                 var result = statement.executeQuery("SELECT count(*), pg_relation_size('" + TABLE + "_pkey') FROM " + TABLE)) {
+                result.next();
+                System.out.printf("%n%s ids: %d rows, primary key index %d bytes%n", idType, result.getLong(1), result.getLong(2));
+            }
+        }
+        insert.close();
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, ids.get());
+            insert.setString(2, "Benchmark Project");
+            insert.addBatch();
+        }
+        var counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+    @Benchmark
+    public UUID generate() {
+        return ids.get();
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.isharipov.acme.platform.project.external.infrastructure.mapper;
+
+import io.github.isharipov.acme.platform.project.external.model.UserExternalProject;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectInboundDto;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectOutboundDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserExternalProjectMapperBenchmark {
+
+    private final UserExternalProjectMapper mapper = new UserExternalProjectMapperImpl();
+
+    private ExternalProjectInboundDto inbound;
+    private UserExternalProject project;
+
+    @Setup
+    public void setUp() {
+        inbound = new ExternalProjectInboundDto("ext-1", "Benchmark Project", UUID.randomUUID());
+        project = mapper.toUserExternalProject(inbound);
+        project.setId(UUID.randomUUID());
+    }
+
+    @Benchmark
+    public UserExternalProject toUserExternalProject() {
+        return mapper.toUserExternalProject(inbound);
+    }
+
+    @Benchmark
+    public ExternalProjectOutboundDto toExternalProjectOutbound() {
+        return mapper.toExternalProjectOutbound(project);
+    }
+}
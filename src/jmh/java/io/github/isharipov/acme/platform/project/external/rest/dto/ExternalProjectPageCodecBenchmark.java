@@ -0,0 +1,74 @@
+package io.github.isharipov.acme.platform.project.external.rest.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.isharipov.acme.platform.common.dto.CursorPageOutboundDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of a project page in each representation the API negotiates; the encoded size of each
+ * page is printed when the trial starts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExternalProjectPageCodecBenchmark {
+
+    private static final TypeReference<CursorPageOutboundDto<ExternalProjectOutboundDto>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    @Param({"10", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private CursorPageOutboundDto<ExternalProjectOutboundDto> page;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        var content = new ArrayList<ExternalProjectOutboundDto>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(new ExternalProjectOutboundDto(UUID.randomUUID(), UUID.randomUUID(), "ext-" + UUID.randomUUID(), "Benchmark Project " + i));
+        }
+        page = new CursorPageOutboundDto<>(content, "AAABkW3yqEAAAAAAAZFt8qhAcACAAAAAAAAAAQ");
+        payload = objectMapper.writeValueAsBytes(page);
+        System.out.printf("%n%s page of %d projects: %d bytes%n", format, size, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public CursorPageOutboundDto<ExternalProjectOutboundDto> decode() throws IOException {
+        return objectMapper.readValue(payload, PAGE_TYPE);
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.isharipov.acme.platform.user.infrastructure.mapper;
+
+import io.github.isharipov.acme.platform.user.domain.UserProfile;
+import io.github.isharipov.acme.platform.user.rest.dto.CreateUserProfileInboundDto;
+import io.github.isharipov.acme.platform.user.rest.dto.UserProfileInboundDto;
+import io.github.isharipov.acme.platform.user.rest.dto.UserProfileOutboundDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserProfileMapperBenchmark {
+
+    private final UserProfileMapper mapper = new UserProfileMapperImpl();
+
+    private UserProfile userProfile;
+    private CreateUserProfileInboundDto createUserProfile;
+    private UserProfileInboundDto updateUserProfile;
+
+    @Setup
+    public void setUp() {
+        userProfile = new UserProfile();
+        userProfile.setId(UUID.randomUUID());
+        userProfile.setAuthId(UUID.randomUUID());
+        userProfile.setName("Benchmark User");
+        createUserProfile = new CreateUserProfileInboundDto(UUID.randomUUID());
+        updateUserProfile = new UserProfileInboundDto("Renamed User");
+    }
+
+    @Benchmark
+    public UserProfile createUserToUser() {
+        return mapper.createUserToUser(createUserProfile);
+    }
+
+    @Benchmark
+    public UserProfileOutboundDto toOutboundUserDto() {
+        return mapper.toOutboundUserDto(userProfile, "benchmark.user@example.com");
+    }
+
+    @Benchmark
+    public UserProfile updateFromDto() {
+        mapper.updateFromDto(updateUserProfile, userProfile);
+        return userProfile;
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.isharipov.acme.platform.auth.domain;
 
 
+import io.github.isharipov.acme.platform.common.model.AssignableUuid;
 import io.github.isharipov.acme.platform.common.model.Auditable;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -13,7 +14,7 @@ import java.util.UUID;
 public class UserAuth extends Auditable {
 
     @Id
-    @GeneratedValue
+    @AssignableUuid
     @Column(name = "id", updatable = false, nullable = false, columnDefinition = "uuid")
     private UUID id;
 
@@ -29,8 +30,8 @@ public class UserAuth extends Auditable {
     @Column(name = "status", nullable = false)
     private UserStatus status;
 
-    @Column(name = "refresh_token", length = 512)
-    private String refreshToken;
+    @Column(name = "refresh_hash", length = 32)
+    private byte[] refreshHash;
 
     @PrePersist
     public void onCreate() {
@@ -69,12 +70,12 @@ public class UserAuth extends Auditable {
         this.status = status;
     }
 
-    public String getRefreshToken() {
-        return refreshToken;
+    public byte[] getRefreshHash() {
+        return refreshHash;
     }
 
-    public void setRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
+    public void setRefreshHash(byte[] refreshHash) {
+        this.refreshHash = refreshHash;
     }
 
     public enum UserStatus {
@@ -1,6 +1,7 @@
 package io.github.isharipov.acme.platform.auth.domain;
 
 import io.github.isharipov.acme.platform.common.util.BeanUtil;
+import io.github.isharipov.acme.platform.common.util.PasswordUtil;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -10,7 +11,7 @@ public class UserAuthEntityListener {
     @PreUpdate
     @PrePersist
     public void encodePassword(UserAuth user) {
-        if (user.getPassword() != null && !user.getPassword().startsWith("$2")) {
+        if (user.getPassword() != null && !PasswordUtil.isEncoded(user.getPassword())) {
             PasswordEncoder encoder = BeanUtil.getBean(PasswordEncoder.class);
             user.setPassword(encoder.encode(user.getPassword()));
         }
@@ -0,0 +1,52 @@
+package io.github.isharipov.acme.platform.auth.repository;
+
+import io.github.isharipov.acme.platform.auth.domain.UserAuth.UserStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * Streams account statuses with a forward-only cursor. On PostgreSQL rows are only fetched in batches inside
+ * a transaction, so callers should run {@link #forEachAccount} in one.
+ */
+@Repository
+public class AccountStatusRepository {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String COUNT_ACCOUNTS = "SELECT COUNT(*) FROM user_auth";
+    private static final String SELECT_ACCOUNTS = """
+            SELECT a.id, a.status, p.id AS profile_id
+            FROM user_auth a
+            LEFT JOIN user_profiles p ON p.auth_id = a.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountStatusRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    public long countAccounts() {
+        var count = jdbcTemplate.queryForObject(COUNT_ACCOUNTS, Long.class);
+        return count != null ? count : 0;
+    }
+
+    public void forEachAccount(AccountConsumer consumer) {
+        jdbcTemplate.query(SELECT_ACCOUNTS, rs -> {
+            consumer.accept(
+                    rs.getObject("id", UUID.class),
+                    UserStatus.valueOf(rs.getString("status")),
+                    rs.getObject("profile_id", UUID.class));
+        });
+    }
+
+    @FunctionalInterface
+    public interface AccountConsumer {
+
+        void accept(UUID authId, UserStatus status, UUID profileId);
+    }
+}
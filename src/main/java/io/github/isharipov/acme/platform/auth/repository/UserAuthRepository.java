@@ -1,14 +1,48 @@
 package io.github.isharipov.acme.platform.auth.repository;
 
 import io.github.isharipov.acme.platform.auth.domain.UserAuth;
+import io.github.isharipov.acme.platform.common.repository.PersistRepository;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserAuthRepository extends JpaRepository<UserAuth, UUID> {
+public interface UserAuthRepository extends JpaRepository<UserAuth, UUID>, PersistRepository<UserAuth> {
 
     Optional<UserAuth> findByEmail(String email);
+
+    @Modifying
+    @Transactional
+    @Query("update UserAuth u set u.refreshHash = :refreshHash, u.updatedAt = :updatedAt where u.id = :id")
+    int updateRefreshHash(@Param("id") UUID id,
+                          @Param("refreshHash") byte[] refreshHash,
+                          @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Replaces the stored refresh token digest only if it still equals {@code expectedHash}.
+     *
+     * @return number of rows updated, {@code 0} when the user is gone or the token was already rotated
+     */
+    @Modifying
+    @Transactional
+    @Query("update UserAuth u set u.refreshHash = :newHash, u.updatedAt = :updatedAt where u.id = :id and u.refreshHash = :expectedHash")
+    int rotateRefreshHash(@Param("id") UUID id,
+                          @Param("expectedHash") byte[] expectedHash,
+                          @Param("newHash") byte[] newHash,
+                          @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Transactional
+    @Query("update UserAuth u set u.password = :password, u.refreshHash = :refreshHash, u.updatedAt = :updatedAt where u.id = :id")
+    int updateCredentials(@Param("id") UUID id,
+                          @Param("password") String encodedPassword,
+                          @Param("refreshHash") byte[] refreshHash,
+                          @Param("updatedAt") Instant updatedAt);
 }
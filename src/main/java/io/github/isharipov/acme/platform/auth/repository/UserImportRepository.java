@@ -0,0 +1,70 @@
+package io.github.isharipov.acme.platform.auth.repository;
+
+import io.github.isharipov.acme.platform.auth.domain.UserAuth.UserStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Plain JDBC access for bulk imports: rows are written in JDBC batches, bypassing the persistence context
+ * and the entity listeners, so passwords must already be encoded.
+ */
+@Repository
+public class UserImportRepository {
+
+    private static final String SELECT_EXISTING_EMAILS =
+            "SELECT email FROM user_auth WHERE email IN (:emails)";
+    private static final String INSERT_USER_AUTH =
+            "INSERT INTO user_auth (id, email, password, status, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_USER_PROFILE =
+            "INSERT INTO user_profiles (id, auth_id, deleted, created_at) VALUES (?, ?, false, ?)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UserImportRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        var parameters = new MapSqlParameterSource("emails", emails);
+        return new HashSet<>(jdbcTemplate.queryForList(SELECT_EXISTING_EMAILS, parameters, String.class));
+    }
+
+    /**
+     * Inserts every user and its profile with one batch per table. Callers are expected to run this
+     * inside a transaction so that a failing batch leaves no partial rows behind.
+     */
+    public void insertAll(List<NewUser> users, Instant createdAt) {
+        if (users.isEmpty()) {
+            return;
+        }
+        var timestamp = Timestamp.from(createdAt);
+        var jdbc = jdbcTemplate.getJdbcTemplate();
+        jdbc.batchUpdate(INSERT_USER_AUTH, users, users.size(), (ps, user) -> {
+            ps.setObject(1, user.authId());
+            ps.setString(2, user.email());
+            ps.setString(3, user.encodedPassword());
+            ps.setString(4, UserStatus.ACTIVE.name());
+            ps.setTimestamp(5, timestamp);
+        });
+        jdbc.batchUpdate(INSERT_USER_PROFILE, users, users.size(), (ps, user) -> {
+            ps.setObject(1, user.profileId());
+            ps.setObject(2, user.authId());
+            ps.setTimestamp(3, timestamp);
+        });
+    }
+
+    public record NewUser(UUID authId, UUID profileId, String email, String encodedPassword) {
+    }
+}
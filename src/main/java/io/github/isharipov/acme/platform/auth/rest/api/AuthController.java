@@ -7,6 +7,8 @@ import io.github.isharipov.acme.platform.auth.rest.dto.RegisterInboundDto;
 import io.github.isharipov.acme.platform.auth.service.AuthService;
 import io.github.isharipov.acme.platform.common.dto.Principal;
 import io.github.isharipov.acme.platform.common.dto.TokenOutboundDto;
+import io.github.isharipov.acme.platform.common.security.throttle.AuthenticationThrottle;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -14,17 +16,17 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import java.util.UUID;
-
 @Validated
 @RestController
 @RequestMapping("/auth")
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthenticationThrottle authenticationThrottle;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, AuthenticationThrottle authenticationThrottle) {
         this.authService = authService;
+        this.authenticationThrottle = authenticationThrottle;
     }
 
     @PostMapping("/register")
@@ -37,18 +39,20 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthOutboundDto> login(@Valid @RequestBody AuthInboundDto loginRequest) {
+    public ResponseEntity<AuthOutboundDto> login(@Valid @RequestBody AuthInboundDto loginRequest, HttpServletRequest request) {
+        authenticationThrottle.checkLogin(loginRequest.login(), request.getRemoteAddr());
         return ResponseEntity.ok().body(authService.login(loginRequest));
     }
 
     @DeleteMapping("/user")
     public ResponseEntity<Void> deleteSelf(@AuthenticationPrincipal Principal principal) {
-        authService.deleteSelf(principal.authId());
+        authService.deleteSelf(principal);
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/refresh")
-    public ResponseEntity<TokenOutboundDto> refreshToken(@Valid @RequestBody RefreshTokenInboundDto refreshTokenRequest) {
+    public ResponseEntity<TokenOutboundDto> refreshToken(@Valid @RequestBody RefreshTokenInboundDto refreshTokenRequest, HttpServletRequest request) {
+        authenticationThrottle.checkRefresh(request.getRemoteAddr());
         return ResponseEntity.ok(authService.refreshToken(refreshTokenRequest.refreshToken()));
     }
 }
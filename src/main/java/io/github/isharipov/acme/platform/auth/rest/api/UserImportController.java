@@ -0,0 +1,69 @@
+package io.github.isharipov.acme.platform.auth.rest.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.isharipov.acme.platform.auth.rest.dto.UserImportResultOutboundDto;
+import io.github.isharipov.acme.platform.auth.service.UserImportService;
+import io.github.isharipov.acme.platform.auth.service.UserImportService.Format;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/users")
+public class UserImportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    public UserImportController(UserImportService userImportService, ObjectMapper objectMapper) {
+        this.userImportService = userImportService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Streams one NDJSON result per input record; results are flushed after every committed chunk,
+     * so a client can follow the progress of a large import.
+     */
+    @PostMapping(path = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        var format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? Format.NDJSON
+                : Format.CSV;
+        var charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        var writer = response.getWriter();
+        try (var reader = new BufferedReader(new InputStreamReader(request.getInputStream(), charset))) {
+            userImportService.importUsers(reader, format, results -> write(results, writer, response));
+        }
+    }
+
+    private void write(List<UserImportResultOutboundDto> results, PrintWriter writer, HttpServletResponse response) {
+        try {
+            for (var result : results) {
+                writer.write(objectMapper.writeValueAsString(result));
+                writer.write('\n');
+            }
+            writer.flush();
+            response.flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.isharipov.acme.platform.auth.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserImportResultOutboundDto(long line,
+                                          String email,
+                                          Status status,
+                                          String message) {
+
+    public enum Status {
+        CREATED,
+        EXISTS,
+        DUPLICATE,
+        INVALID
+    }
+}
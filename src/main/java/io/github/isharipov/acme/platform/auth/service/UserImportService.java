@@ -0,0 +1,22 @@
+package io.github.isharipov.acme.platform.auth.service;
+
+import io.github.isharipov.acme.platform.auth.rest.dto.UserImportResultOutboundDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface UserImportService {
+
+    /**
+     * Reads {@code email}/{@code password} records from {@code reader} and imports them chunk by chunk.
+     * The results of every chunk are handed to {@code resultSink} in input order as soon as the chunk is committed.
+     */
+    void importUsers(BufferedReader reader, Format format, Consumer<List<UserImportResultOutboundDto>> resultSink) throws IOException;
+
+    enum Format {
+        NDJSON,
+        CSV
+    }
+}
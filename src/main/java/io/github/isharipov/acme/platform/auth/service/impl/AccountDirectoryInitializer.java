@@ -0,0 +1,44 @@
+package io.github.isharipov.acme.platform.auth.service.impl;
+
+import io.github.isharipov.acme.platform.auth.repository.AccountStatusRepository;
+import io.github.isharipov.acme.platform.common.security.account.AccountDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fills the {@link AccountDirectory} from {@code user_auth} once all singletons, including the database
+ * migrations, are initialized and before the web server starts taking requests.
+ */
+@Component
+public class AccountDirectoryInitializer implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountDirectoryInitializer.class);
+
+    private final AccountStatusRepository accountStatusRepository;
+    private final AccountDirectory accountDirectory;
+    private final TransactionTemplate transactionTemplate;
+
+    public AccountDirectoryInitializer(AccountStatusRepository accountStatusRepository,
+                                       AccountDirectory accountDirectory,
+                                       PlatformTransactionManager transactionManager) {
+        this.accountStatusRepository = accountStatusRepository;
+        this.accountDirectory = accountDirectory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        var started = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            accountDirectory.reserve(accountStatusRepository.countAccounts());
+            accountStatusRepository.forEachAccount(accountDirectory::put);
+        });
+        logger.info("Loaded {} accounts into the account directory in {} ms",
+                accountDirectory.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+}
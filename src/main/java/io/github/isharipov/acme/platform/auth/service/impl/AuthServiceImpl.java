@@ -9,97 +9,174 @@ import io.github.isharipov.acme.platform.auth.rest.dto.AuthOutboundDto;
 import io.github.isharipov.acme.platform.auth.rest.dto.RegisterInboundDto;
 import io.github.isharipov.acme.platform.auth.rest.dto.UserAuthOutboundDto;
 import io.github.isharipov.acme.platform.auth.service.AuthService;
+import io.github.isharipov.acme.platform.common.dto.Principal;
 import io.github.isharipov.acme.platform.common.dto.TokenOutboundDto;
 import io.github.isharipov.acme.platform.common.exception.JwtAuthenticationException;
 import io.github.isharipov.acme.platform.common.exception.RefreshTokenMismatchException;
+import io.github.isharipov.acme.platform.common.security.account.AccountDirectory;
+import io.github.isharipov.acme.platform.common.security.account.AccountStatusChangedEvent;
+import io.github.isharipov.acme.platform.common.security.token.TokenRevocationStore;
+import io.github.isharipov.acme.platform.common.security.token.TokenType;
 import io.github.isharipov.acme.platform.common.service.JwtTokenProvider;
+import io.github.isharipov.acme.platform.common.util.HashUtil;
+import io.github.isharipov.acme.platform.common.util.UuidV7;
 import io.github.isharipov.acme.platform.user.rest.dto.CreateUserProfileInboundDto;
 import io.github.isharipov.acme.platform.user.service.UserProfileService;
-import io.jsonwebtoken.Claims;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.UUID;
+import java.time.Instant;
 
 @Service
 public class AuthServiceImpl implements AuthService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
 
+    private static final String USER_NOT_FOUND_PASSWORD = "userNotFoundPassword";
+
     private final UserAuthRepository userAuthRepository;
     private final UserProfileService userService;
     private final UserAuthMapper userAuthMapper;
     private final JwtTokenProvider jwtTokenProvider;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccountDirectory accountDirectory;
+
+    private volatile String userNotFoundEncodedPassword;
 
     public AuthServiceImpl(UserAuthRepository userAuthRepository,
                            UserProfileService userService,
                            UserAuthMapper userAuthMapper,
                            JwtTokenProvider jwtTokenProvider,
-                           AuthenticationManager authenticationManager) {
+                           PasswordEncoder passwordEncoder,
+                           TokenRevocationStore tokenRevocationStore,
+                           TransactionTemplate transactionTemplate,
+                           ApplicationEventPublisher eventPublisher,
+                           AccountDirectory accountDirectory) {
         this.userAuthRepository = userAuthRepository;
         this.userService = userService;
         this.userAuthMapper = userAuthMapper;
         this.jwtTokenProvider = jwtTokenProvider;
-        this.authenticationManager = authenticationManager;
+        this.passwordEncoder = passwordEncoder;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.accountDirectory = accountDirectory;
     }
 
-    @Transactional
+    /**
+     * Hashes the password before any transaction is opened, then inserts the user and the profile with
+     * one statement each. The profile id is assigned up front so the issued tokens can carry it.
+     * Only when the email is already taken does it fall back to restoring a deleted account.
+     */
     @Override
     public AuthOutboundDto register(RegisterInboundDto registerRequest) {
         logger.info("Attempting to register user with email={}", registerRequest.email());
-        var authUser = registerUser(registerRequest);
+        var encodedPassword = passwordEncoder.encode(registerRequest.password());
+        try {
+            return transactionTemplate.execute(status -> registerNewUser(registerRequest, encodedPassword));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Email is already taken, checking for a deleted account: {}", e.getMessage());
+            return transactionTemplate.execute(status -> restoreDeletedUser(registerRequest, encodedPassword));
+        }
+    }
+
+    private AuthOutboundDto registerNewUser(RegisterInboundDto registerRequest, String encodedPassword) {
+        var authUser = userAuthMapper.toUserAuth(registerRequest);
+        authUser.setId(UuidV7.generate());
+        authUser.setPassword(encodedPassword);
+        authUser.setStatus(UserAuth.UserStatus.ACTIVE);
+        var profileId = UuidV7.generate();
+        var token = jwtTokenProvider.generateTokens(authUser.getId().toString(), authUser.getEmail(), profileId);
+        authUser.setRefreshHash(HashUtil.sha256(token.refreshToken()));
+        userAuthRepository.persist(authUser);
+        var profile = userService.createNewUserProfile(new CreateUserProfileInboundDto(authUser.getId(), profileId));
+        userAuthRepository.flush();
+        eventPublisher.publishEvent(new AccountStatusChangedEvent(authUser.getId(), authUser.getStatus(), profile.id()));
         logger.info("Successfully registered user with id={} and email={}", authUser.getId(), authUser.getEmail());
-        userService.createUserProfile(new CreateUserProfileInboundDto(authUser.getId()));
-        var token = jwtTokenProvider.generateTokens(authUser.getId().toString(), authUser.getEmail());
-        authUser.setRefreshToken(token.refreshToken());
-        userAuthRepository.save(authUser);
         return new AuthOutboundDto(new UserAuthOutboundDto(authUser.getEmail()), token);
     }
 
-    private UserAuth registerUser(RegisterInboundDto registerRequest) {
-        var existingUser = userAuthRepository.findByEmail(registerRequest.email());
-        if (existingUser.isPresent()) {
-            var user = existingUser.get();
-            if (user.getStatus() != UserAuth.UserStatus.DELETED) {
-                logger.warn("Attempt to register already existing user with email={}", registerRequest.email());
-                throw new UserAlreadyExistsException(
-                        "User with email " + registerRequest.email() + " already exists");
-            }
-
-            user.setPassword(registerRequest.password());
-            user.setStatus(UserAuth.UserStatus.ACTIVE);
-            return userAuthRepository.save(user);
-        }
-        return userAuthRepository.save(userAuthMapper.toUserAuth(registerRequest));
+    private AuthOutboundDto restoreDeletedUser(RegisterInboundDto registerRequest, String encodedPassword) {
+        var authUser = userAuthRepository.findByEmail(registerRequest.email())
+                .filter(user -> user.getStatus() == UserAuth.UserStatus.DELETED)
+                .orElseThrow(() -> {
+                    logger.warn("Attempt to register already existing user with email={}", registerRequest.email());
+                    return new UserAlreadyExistsException(
+                            "User with email " + registerRequest.email() + " already exists");
+                });
+        authUser.setPassword(encodedPassword);
+        authUser.setStatus(UserAuth.UserStatus.ACTIVE);
+        var profile = userService.createUserProfile(new CreateUserProfileInboundDto(authUser.getId()));
+        var token = jwtTokenProvider.generateTokens(authUser.getId().toString(), authUser.getEmail(), profile.id());
+        authUser.setRefreshHash(HashUtil.sha256(token.refreshToken()));
+        eventPublisher.publishEvent(new AccountStatusChangedEvent(authUser.getId(), authUser.getStatus(), profile.id()));
+        logger.info("Restored deleted user with id={} and email={}", authUser.getId(), authUser.getEmail());
+        return new AuthOutboundDto(new UserAuthOutboundDto(authUser.getEmail()), token);
     }
 
     @Override
     public AuthOutboundDto login(AuthInboundDto authRequest) {
         logger.info("Login attempt for email={}", authRequest.login());
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(authRequest.login(), authRequest.password())
-        );
-        var userAuth = userAuthRepository.findByEmail(authRequest.login())
-                .orElseThrow(() -> {
-                    logger.warn("Login failed: user not found for email={}", authRequest.login());
-                    return new UsernameNotFoundException("User not found");
-                });
+        var userAuth = authenticate(authRequest);
         logger.info("User login successful: id={}, email={}", userAuth.getId(), userAuth.getEmail());
-        var token = jwtTokenProvider.generateTokens(userAuth.getId().toString(), userAuth.getEmail());
-        userAuth.setRefreshToken(token.refreshToken());
-        userAuthRepository.save(userAuth);
+        var profileId = accountDirectory.profileId(userAuth.getId());
+        var token = jwtTokenProvider.generateTokens(userAuth.getId().toString(), userAuth.getEmail(), profileId);
+        if (passwordEncoder.upgradeEncoding(userAuth.getPassword())) {
+            logger.info("Rehashing password with current parameters for id={}", userAuth.getId());
+            userAuthRepository.updateCredentials(
+                    userAuth.getId(), passwordEncoder.encode(authRequest.password()), HashUtil.sha256(token.refreshToken()), Instant.now());
+        } else {
+            userAuthRepository.updateRefreshHash(userAuth.getId(), HashUtil.sha256(token.refreshToken()), Instant.now());
+        }
         return new AuthOutboundDto(new UserAuthOutboundDto(userAuth.getEmail()), token);
     }
 
+    private UserAuth authenticate(AuthInboundDto authRequest) {
+        var userAuth = userAuthRepository.findByEmail(authRequest.login()).orElse(null);
+        if (userAuth == null) {
+            logger.warn("Login failed: user not found for email={}", authRequest.login());
+            mitigateAgainstTimingAttack(authRequest.password());
+            throw new BadCredentialsException("Invalid credentials");
+        }
+        if (!passwordEncoder.matches(authRequest.password(), userAuth.getPassword())) {
+            logger.warn("Login failed: bad credentials for email={}", authRequest.login());
+            throw new BadCredentialsException("Invalid credentials");
+        }
+        if (userAuth.getStatus() == UserAuth.UserStatus.LOCKED) {
+            logger.warn("Login failed: account locked for id={}", userAuth.getId());
+            throw new LockedException("User account is locked");
+        }
+        if (userAuth.getStatus() != UserAuth.UserStatus.ACTIVE) {
+            logger.warn("Login failed: account disabled for id={}, status={}", userAuth.getId(), userAuth.getStatus());
+            throw new DisabledException("User is disabled");
+        }
+        return userAuth;
+    }
+
+    private void mitigateAgainstTimingAttack(String rawPassword) {
+        if (userNotFoundEncodedPassword == null) {
+            userNotFoundEncodedPassword = passwordEncoder.encode(USER_NOT_FOUND_PASSWORD);
+        }
+        passwordEncoder.matches(rawPassword, userNotFoundEncodedPassword);
+    }
+
     @Transactional
     @Override
-    public void deleteSelf(UUID authId) {
+    public void deleteSelf(Principal principal) {
+        var authId = principal.authId();
         logger.info("Deletion request received for user id={}", authId);
         var authUser = userAuthRepository.findById(authId)
                 .orElseThrow(() -> {
@@ -108,7 +185,10 @@ public class AuthServiceImpl implements AuthService {
                 });
         userService.softDeleteUserProfile(authId);
         authUser.setStatus(UserAuth.UserStatus.DELETED);
+        authUser.setRefreshHash(null);
         userAuthRepository.save(authUser);
+        tokenRevocationStore.revoke(principal.tokenId(), principal.expiresAt());
+        eventPublisher.publishEvent(new AccountStatusChangedEvent(authId, UserAuth.UserStatus.DELETED, null));
 
         logger.info("User account marked as deleted: id={}, email={}", authUser.getId(), authUser.getEmail());
     }
@@ -116,34 +196,44 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public TokenOutboundDto refreshToken(String refreshToken) {
         logger.info("Received refresh token request");
-        Claims claims;
+        Principal principal;
         try {
             logger.debug("Parsing refresh token...");
-            claims = jwtTokenProvider.parseClaims(refreshToken);
-            logger.debug("Parsed refresh token successfully for subject={}", claims.getSubject());
+            principal = jwtTokenProvider.parseToken(refreshToken);
+            logger.debug("Parsed refresh token successfully for subject={}", principal.authId());
         } catch (JwtAuthenticationException e) {
             logger.warn("Failed to parse refresh token: {}", e.getMessage());
             throw e;
         }
-        var authId = UUID.fromString(claims.getSubject());
+        if (principal.tokenType() != TokenType.REFRESH) {
+            logger.warn("Rejected non-refresh token on refresh for subject={}", principal.authId());
+            throw new JwtAuthenticationException("Token is not a refresh token");
+        }
+        var authId = principal.authId();
         logger.debug("Extracted authId from token: {}", authId);
-        var user = userAuthRepository.findById(authId)
-                .orElseThrow(() -> {
-                    logger.warn("User not found for ID: {}", authId);
-                    return new UsernameNotFoundException("User not found");
-                });
+        var email = principal.email();
+        if (email == null) {
+            email = userAuthRepository.findById(authId)
+                    .map(UserAuth::getEmail)
+                    .orElseThrow(() -> {
+                        logger.warn("User not found for ID: {}", authId);
+                        return new UsernameNotFoundException("User not found");
+                    });
+        }
 
-        if (!refreshToken.equals(user.getRefreshToken())) {
-            logger.warn("Refresh token mismatch for authId={} and email={}", authId, user.getEmail());
+        var profileId = principal.profileId() != null ? principal.profileId() : accountDirectory.profileId(authId);
+        var tokens = jwtTokenProvider.generateTokens(authId.toString(), email, profileId);
+        var rotated = userAuthRepository.rotateRefreshHash(
+                authId, HashUtil.sha256(refreshToken), HashUtil.sha256(tokens.refreshToken()), Instant.now());
+        if (rotated == 0) {
+            if (!userAuthRepository.existsById(authId)) {
+                logger.warn("User not found for ID: {}", authId);
+                throw new UsernameNotFoundException("User not found");
+            }
+            logger.warn("Refresh token mismatch for authId={} and email={}", authId, email);
             throw new RefreshTokenMismatchException("Refresh token mismatch");
         }
-
-        logger.info("Refresh token valid for authId={}, issuing new tokens", authId);
-        var tokens = jwtTokenProvider.generateTokens(authId.toString(), user.getEmail());
-
-        user.setRefreshToken(tokens.refreshToken());
-        userAuthRepository.save(user);
-        logger.debug("Stored new refresh token for authId={}", authId);
+        logger.info("Refresh token rotated for authId={}", authId);
 
         return new TokenOutboundDto(tokens.accessToken(), tokens.refreshToken());
     }
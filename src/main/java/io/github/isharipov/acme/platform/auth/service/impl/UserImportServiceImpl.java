@@ -0,0 +1,269 @@
+package io.github.isharipov.acme.platform.auth.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.isharipov.acme.platform.auth.repository.UserImportRepository;
+import io.github.isharipov.acme.platform.auth.repository.UserImportRepository.NewUser;
+import io.github.isharipov.acme.platform.auth.rest.dto.RegisterInboundDto;
+import io.github.isharipov.acme.platform.auth.rest.dto.UserImportResultOutboundDto;
+import io.github.isharipov.acme.platform.auth.rest.dto.UserImportResultOutboundDto.Status;
+import io.github.isharipov.acme.platform.auth.service.UserImportService;
+import io.github.isharipov.acme.platform.auth.domain.UserAuth.UserStatus;
+import io.github.isharipov.acme.platform.common.configuration.security.PasswordEncoderConfig;
+import io.github.isharipov.acme.platform.common.security.account.AccountStatusChangedEvent;
+import io.github.isharipov.acme.platform.common.util.PasswordUtil;
+import io.github.isharipov.acme.platform.common.util.UuidV7;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Imports users in chunks: every chunk is validated, checked against existing emails with one query,
+ * hashed in parallel on a dedicated pool and written with one JDBC batch per table.
+ */
+@Service
+public class UserImportServiceImpl implements UserImportService, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportServiceImpl.class);
+
+    private static final String CSV_HEADER = "email,password";
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+
+    private final UserImportRepository userImportRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ForkJoinPool hashingPool;
+    private final int chunkSize;
+    private final Map<Status, Counter> counters = new EnumMap<>(Status.class);
+
+    public UserImportServiceImpl(UserImportRepository userImportRepository,
+                                 @Qualifier(PasswordEncoderConfig.HASHING_PASSWORD_ENCODER) PasswordEncoder passwordEncoder,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${auth.bulk-import.chunk-size:500}") int chunkSize,
+                                 @Value("${auth.bulk-import.hashing-parallelism:0}") int hashingParallelism) {
+        this.userImportRepository = userImportRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.hashingPool = new ForkJoinPool(
+                hashingParallelism > 0 ? hashingParallelism : Runtime.getRuntime().availableProcessors());
+        for (var status : Status.values()) {
+            counters.put(status, Counter.builder("auth.bulk-import.rows")
+                    .description("Rows processed by the bulk user import")
+                    .tag("status", status.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void importUsers(BufferedReader reader, Format format, Consumer<List<UserImportResultOutboundDto>> resultSink) throws IOException {
+        var chunk = new ArrayList<ImportLine>(chunkSize);
+        long lineNumber = 0;
+        long imported = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (format == Format.CSV && lineNumber == 1 && CSV_HEADER.equalsIgnoreCase(line.strip()))) {
+                continue;
+            }
+            chunk.add(new ImportLine(lineNumber, line));
+            if (chunk.size() == chunkSize) {
+                imported += publish(importChunk(chunk, format), resultSink);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += publish(importChunk(chunk, format), resultSink);
+        }
+        logger.info("Bulk import finished: lines={}, created={}", lineNumber, imported);
+    }
+
+    @Override
+    public void destroy() {
+        hashingPool.shutdown();
+    }
+
+    private long publish(List<UserImportResultOutboundDto> results, Consumer<List<UserImportResultOutboundDto>> resultSink) {
+        results.forEach(result -> counters.get(result.status()).increment());
+        resultSink.accept(results);
+        return results.stream().filter(result -> result.status() == Status.CREATED).count();
+    }
+
+    private List<UserImportResultOutboundDto> importChunk(List<ImportLine> lines, Format format) {
+        var results = new UserImportResultOutboundDto[lines.size()];
+        var candidates = new ArrayList<Candidate>(lines.size());
+        var seenEmails = new HashSet<String>();
+        for (int i = 0; i < lines.size(); i++) {
+            var line = lines.get(i);
+            var record = parse(line.content(), format);
+            if (record == null) {
+                results[i] = new UserImportResultOutboundDto(line.number(), null, Status.INVALID, "Malformed record");
+                continue;
+            }
+            var violations = validate(record);
+            if (violations != null) {
+                results[i] = new UserImportResultOutboundDto(line.number(), record.email(), Status.INVALID, violations);
+            } else if (!seenEmails.add(record.email())) {
+                results[i] = new UserImportResultOutboundDto(line.number(), record.email(), Status.DUPLICATE, "Email appears earlier in the import");
+            } else {
+                candidates.add(new Candidate(i, line.number(), record));
+            }
+        }
+
+        var existingEmails = userImportRepository.findExistingEmails(seenEmails);
+        var newCandidates = new ArrayList<Candidate>(candidates.size());
+        for (var candidate : candidates) {
+            if (existingEmails.contains(candidate.record().email())) {
+                results[candidate.index()] = exists(candidate);
+            } else {
+                newCandidates.add(candidate);
+            }
+        }
+
+        var users = hashingPool.submit(() -> newCandidates.parallelStream()
+                        .map(candidate -> new NewUser(
+                                UuidV7.generate(),
+                                UuidV7.generate(),
+                                candidate.record().email(),
+                                encode(candidate.record().password())))
+                        .toList())
+                .join();
+        insert(newCandidates, users, results);
+        return Arrays.asList(results);
+    }
+
+    private void insert(List<Candidate> candidates, List<NewUser> users, UserImportResultOutboundDto[] results) {
+        var createdAt = Instant.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> userImportRepository.insertAll(users, createdAt));
+            users.forEach(this::publishCreated);
+            candidates.forEach(candidate -> results[candidate.index()] = created(candidate));
+        } catch (DataIntegrityViolationException e) {
+            // Another writer registered one of the emails after the existence check; isolate it row by row.
+            logger.warn("Batch insert of {} users failed, retrying row by row: {}", users.size(), e.getMessage());
+            for (int i = 0; i < users.size(); i++) {
+                var candidate = candidates.get(i);
+                var user = users.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userImportRepository.insertAll(List.of(user), createdAt));
+                    publishCreated(user);
+                    results[candidate.index()] = created(candidate);
+                } catch (DataIntegrityViolationException rowException) {
+                    results[candidate.index()] = exists(candidate);
+                }
+            }
+        }
+    }
+
+    private void publishCreated(NewUser user) {
+        eventPublisher.publishEvent(new AccountStatusChangedEvent(user.authId(), UserStatus.ACTIVE, user.profileId()));
+    }
+
+    /**
+     * Pre-hashed BCrypt values are stored as-is, with the {@code {bcrypt}} id added when missing,
+     * so they are not needlessly re-encoded on the first login.
+     */
+    private String encode(String password) {
+        if (PasswordUtil.isBcryptHash(password)) {
+            return password.startsWith(BCRYPT_PREFIX) ? password : BCRYPT_PREFIX + password;
+        }
+        return passwordEncoder.encode(password);
+    }
+
+    private String validate(RegisterInboundDto record) {
+        Set<ConstraintViolation<RegisterInboundDto>> violations = PasswordUtil.isBcryptHash(record.password())
+                ? validator.validateProperty(record, "email")
+                : validator.validate(record);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private RegisterInboundDto parse(String content, Format format) {
+        return switch (format) {
+            case NDJSON -> parseJson(content);
+            case CSV -> parseCsv(content);
+        };
+    }
+
+    private RegisterInboundDto parseJson(String content) {
+        try {
+            return objectMapper.readValue(content, RegisterInboundDto.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Splits on the first comma only, so passwords and BCrypt hashes may contain commas without quoting.
+     */
+    private static RegisterInboundDto parseCsv(String content) {
+        var separator = content.indexOf(',');
+        if (separator < 0) {
+            return null;
+        }
+        return new RegisterInboundDto(
+                unquote(content.substring(0, separator).strip()),
+                unquote(content.substring(separator + 1)));
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1).replace("\"\"", "\"");
+        }
+        return value;
+    }
+
+    private static UserImportResultOutboundDto created(Candidate candidate) {
+        return new UserImportResultOutboundDto(candidate.line(), candidate.record().email(), Status.CREATED, null);
+    }
+
+    private static UserImportResultOutboundDto exists(Candidate candidate) {
+        return new UserImportResultOutboundDto(candidate.line(), candidate.record().email(), Status.EXISTS, "User is already registered");
+    }
+
+    private record ImportLine(long number, String content) {
+    }
+
+    private record Candidate(int index, long line, RegisterInboundDto record) {
+    }
+}
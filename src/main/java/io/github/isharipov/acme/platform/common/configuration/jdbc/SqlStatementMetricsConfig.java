@@ -0,0 +1,31 @@
+package io.github.isharipov.acme.platform.common.configuration.jdbc;
+
+import io.github.isharipov.acme.platform.common.jdbc.SqlStatementBudgetProperties;
+import io.github.isharipov.acme.platform.common.jdbc.StatementCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(SqlStatementBudgetProperties.class)
+public class SqlStatementMetricsConfig {
+
+    /**
+     * Wraps every data source so that statements run by Hibernate and by {@code JdbcTemplate} are counted alike.
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.isharipov.acme.platform.common.configuration.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.isharipov.acme.platform.common.exception.ReactiveResponseExceptionHandler;
+import io.github.isharipov.acme.platform.common.security.account.AccountDirectory;
+import io.github.isharipov.acme.platform.common.security.filter.ReactiveJwtAuthenticationFilter;
+import io.github.isharipov.acme.platform.common.security.token.AccessTokenVerifier;
+import io.github.isharipov.acme.platform.common.security.token.TokenRevocationStore;
+import io.github.isharipov.acme.platform.common.security.token.VerifiedTokenCache;
+import io.github.isharipov.acme.platform.common.service.JwtTokenProvider;
+import io.github.isharipov.acme.platform.common.web.reactive.ReactiveReadServer;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.List;
+
+/**
+ * Wires the non-blocking read API: R2DBC-backed routes behind the same access token checks as the servlet stack,
+ * served by {@link ReactiveReadServer} on {@code reactive-read.port}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "reactive-read", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveReadConfig {
+
+    @Bean
+    public ReactiveJwtAuthenticationFilter reactiveJwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                                                           VerifiedTokenCache verifiedTokenCache,
+                                                                           TokenRevocationStore tokenRevocationStore,
+                                                                           AccountDirectory accountDirectory) {
+        return new ReactiveJwtAuthenticationFilter(
+                new AccessTokenVerifier(jwtTokenProvider, verifiedTokenCache, tokenRevocationStore, accountDirectory));
+    }
+
+    @Bean
+    public ReactiveResponseExceptionHandler reactiveResponseExceptionHandler() {
+        return new ReactiveResponseExceptionHandler();
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(@Value("${reactive-read.port:8081}") int port,
+                                                 List<RouterFunction<ServerResponse>> routes,
+                                                 ObjectMapper objectMapper,
+                                                 ObjectProvider<ObservationRegistry> observationRegistry) {
+        var handlerStrategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        var router = routes.stream().reduce(RouterFunction::and).orElseThrow();
+        return new ReactiveReadServer(port, router, handlerStrategies, observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+    }
+}
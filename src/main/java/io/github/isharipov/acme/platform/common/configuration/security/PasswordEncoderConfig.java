@@ -0,0 +1,81 @@
+package io.github.isharipov.acme.platform.common.configuration.security;
+
+import io.github.isharipov.acme.platform.common.security.password.BCryptStrengthCalibrator;
+import io.github.isharipov.acme.platform.common.security.password.BulkheadPasswordEncoder;
+import io.github.isharipov.acme.platform.common.security.password.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
+public class PasswordEncoderConfig {
+
+    public static final String HASHING_PASSWORD_ENCODER = "hashingPasswordEncoder";
+
+    private static final String BCRYPT_ID = "bcrypt";
+
+    /**
+     * Encoder that hashes on the calling thread; meant for batch work that brings its own parallelism.
+     */
+    @Bean(HASHING_PASSWORD_ENCODER)
+    public PasswordEncoder hashingPasswordEncoder(PasswordHashingProperties properties) {
+        return delegatingPasswordEncoder(resolveStrength(properties));
+    }
+
+    @Bean
+    @Primary
+    public PasswordEncoder passwordEncoder(@Qualifier(HASHING_PASSWORD_ENCODER) PasswordEncoder hashingPasswordEncoder,
+                                           PasswordHashingProperties properties,
+                                           MeterRegistry meterRegistry) {
+        return new BulkheadPasswordEncoder(
+                hashingPasswordEncoder,
+                passwordHashingExecutor(properties),
+                properties.maxWait(),
+                meterRegistry);
+    }
+
+    /**
+     * Hashes are stored as {@code {bcrypt}$2a$<cost>$...}, so both the algorithm and its cost travel with each hash.
+     * Legacy hashes without the id prefix are still verified with BCrypt and reported as needing an upgrade.
+     */
+    static PasswordEncoder delegatingPasswordEncoder(int strength) {
+        var bcrypt = new BCryptPasswordEncoder(strength);
+        var encoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    private static ThreadPoolExecutor passwordHashingExecutor(PasswordHashingProperties properties) {
+        var threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(
+                properties.poolSize(),
+                properties.poolSize(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static int resolveStrength(PasswordHashingProperties properties) {
+        if (properties.strength() != null) {
+            return properties.strength();
+        }
+        return new BCryptStrengthCalibrator()
+                .calibrate(properties.targetLatency(), properties.minStrength(), properties.maxStrength());
+    }
+}
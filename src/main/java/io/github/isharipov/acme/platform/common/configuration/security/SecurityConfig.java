@@ -1,37 +1,45 @@
 package io.github.isharipov.acme.platform.common.configuration.security;
 
 import io.github.isharipov.acme.platform.common.security.filter.JwtAuthenticationFilter;
-import io.github.isharipov.acme.platform.auth.service.impl.AuthUserDetailsService;
 import io.github.isharipov.acme.platform.common.exception.security.CustomAccessDeniedHandler;
 import io.github.isharipov.acme.platform.common.exception.security.CustomAuthenticationEntryPoint;
+import io.github.isharipov.acme.platform.common.security.account.AccountDirectory;
+import io.github.isharipov.acme.platform.common.security.throttle.AuthenticationThrottleProperties;
+import io.github.isharipov.acme.platform.common.security.token.TokenRevocationStore;
+import io.github.isharipov.acme.platform.common.security.token.VerifiedTokenCache;
 import io.github.isharipov.acme.platform.common.service.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.ProviderManager;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
-import java.util.List;
+import java.util.Set;
 
 @Configuration
+@EnableConfigurationProperties(AuthenticationThrottleProperties.class)
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final AuthUserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final AccountDirectory accountDirectory;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
+    private final Set<String> adminEmails;
 
-    public SecurityConfig(JwtTokenProvider jwtTokenProvider, AuthUserDetailsService userDetailsService, CustomAuthenticationEntryPoint customAuthenticationEntryPoint, CustomAccessDeniedHandler customAccessDeniedHandler) {
+    public SecurityConfig(JwtTokenProvider jwtTokenProvider, VerifiedTokenCache verifiedTokenCache, TokenRevocationStore tokenRevocationStore, AccountDirectory accountDirectory, CustomAuthenticationEntryPoint customAuthenticationEntryPoint, CustomAccessDeniedHandler customAccessDeniedHandler,
+                          @Value("${auth.admin.emails:}") Set<String> adminEmails) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userDetailsService = userDetailsService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.accountDirectory = accountDirectory;
         this.customAuthenticationEntryPoint = customAuthenticationEntryPoint;
         this.customAccessDeniedHandler = customAccessDeniedHandler;
+        this.adminEmails = adminEmails;
     }
 
     @Bean
@@ -54,6 +62,8 @@ public class SecurityConfig {
                                 "/auth/login",
                                 "/auth/refresh")
                         .permitAll()
+                        .requestMatchers("/api/admin/**")
+                        .hasRole("ADMIN")
                         .anyRequest()
                         .authenticated()
                 );
@@ -65,19 +75,6 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider, customAuthenticationEntryPoint);
-    }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
-    @Bean
-    public AuthenticationManager authenticationManager() {
-        var provider = new DaoAuthenticationProvider();
-        provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
-        return new ProviderManager(List.of(provider));
+        return new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache, tokenRevocationStore, accountDirectory, customAuthenticationEntryPoint, adminEmails);
     }
 }
\ No newline at end of file
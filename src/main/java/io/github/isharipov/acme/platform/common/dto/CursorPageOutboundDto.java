@@ -0,0 +1,9 @@
+package io.github.isharipov.acme.platform.common.dto;
+
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated listing. {@code nextCursor} is {@code null} on the last slice.
+ */
+public record CursorPageOutboundDto<T>(List<T> content, String nextCursor) {
+}
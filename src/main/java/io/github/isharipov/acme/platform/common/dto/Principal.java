@@ -1,6 +1,26 @@
 package io.github.isharipov.acme.platform.common.dto;
 
+import io.github.isharipov.acme.platform.common.security.token.TokenType;
+
+import java.time.Instant;
 import java.util.UUID;
 
-public record Principal(UUID authId, String email) {
+/**
+ * Authenticated caller. {@code profileId} comes from the {@code pid} claim and is {@code null} for tokens issued
+ * before the claim was introduced; {@code tokenType} comes from the {@code typ} claim, is derived from
+ * {@code email} for tokens issued before that claim, and is {@code null} when its value is unknown.
+ */
+public record Principal(UUID authId, String email, UUID profileId, String tokenId, Instant expiresAt, TokenType tokenType) {
+
+    public Principal(UUID authId, String email, UUID profileId, String tokenId, Instant expiresAt) {
+        this(authId, email, profileId, tokenId, expiresAt, TokenType.fromClaim(null, email));
+    }
+
+    public Principal(UUID authId, String email, String tokenId, Instant expiresAt) {
+        this(authId, email, null, tokenId, expiresAt);
+    }
+
+    public Principal(UUID authId, String email) {
+        this(authId, email, null, null, null);
+    }
 }
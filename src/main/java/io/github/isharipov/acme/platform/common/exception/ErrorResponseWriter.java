@@ -0,0 +1,45 @@
+package io.github.isharipov.acme.platform.common.exception;
+
+import io.github.isharipov.acme.platform.common.exception.model.ErrorResponse;
+import io.github.isharipov.acme.platform.common.web.Representations;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes errors raised outside of Spring MVC, by security handlers and servlet filters, in the representation the
+ * client accepts, the same way {@link RestResponseExceptionHandler} responses are negotiated. Falls back to JSON.
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private final List<HttpMessageConverter<?>> converters;
+
+    public ErrorResponseWriter(HttpMessageConverters httpMessageConverters) {
+        this.converters = httpMessageConverters.getConverters();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void write(HttpServletRequest request, HttpServletResponse response, ResponseEntity<ErrorResponse> error) throws IOException {
+        response.setStatus(error.getStatusCode().value());
+        var mediaType = Representations.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        for (var converter : converters) {
+            if (converter.canWrite(ErrorResponse.class, mediaType)) {
+                var outputMessage = new ServletServerHttpResponse(response);
+                ((HttpMessageConverter<Object>) converter).write(error.getBody(), mediaType, outputMessage);
+                outputMessage.flush();
+                return;
+            }
+        }
+        throw new IllegalStateException("No converter for " + mediaType);
+    }
+}
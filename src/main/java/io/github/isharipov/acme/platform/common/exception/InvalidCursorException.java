@@ -0,0 +1,7 @@
+package io.github.isharipov.acme.platform.common.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -3,6 +3,10 @@ package io.github.isharipov.acme.platform.common.exception;
 import org.springframework.security.core.AuthenticationException;
 
 public class JwtAuthenticationException extends AuthenticationException {
+    public JwtAuthenticationException(String message) {
+        super(message);
+    }
+
     public JwtAuthenticationException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -0,0 +1,60 @@
+package io.github.isharipov.acme.platform.common.exception;
+
+import io.github.isharipov.acme.platform.common.exception.model.ErrorResponse;
+import io.github.isharipov.acme.platform.common.exception.model.ErrorType;
+import io.github.isharipov.acme.platform.user.infrastructure.UserProfileNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Functional-route counterpart of {@link RestResponseExceptionHandler} for the reactive read API, producing the same
+ * error bodies for the exceptions those routes can raise.
+ */
+public class ReactiveResponseExceptionHandler implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveResponseExceptionHandler.class);
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        return Mono.defer(() -> next.handle(request))
+                .onErrorResume(ex -> {
+                    logException(ex, request);
+                    return toServerResponse(resolve(ex));
+                });
+    }
+
+    private static ResponseEntity<ErrorResponse> resolve(Throwable ex) {
+        if (ex instanceof JwtAuthenticationException) {
+            return ErrorType.AUTH_ERROR.getErrorResponse(ex.getMessage());
+        }
+        if (ex instanceof UserProfileNotFoundException) {
+            return ErrorType.ENTITY_ERROR.getErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+        if (ex instanceof InvalidCursorException) {
+            return ErrorType.VALIDATION_ERROR.getErrorResponse(ex.getMessage());
+        }
+        if (ex instanceof ServerWebInputException inputException) {
+            return ErrorType.VALIDATION_ERROR.getErrorResponse(inputException.getReason());
+        }
+        return ErrorType.INTERNAL_ERROR.getErrorResponse();
+    }
+
+    private static Mono<ServerResponse> toServerResponse(ResponseEntity<ErrorResponse> error) {
+        return ServerResponse.status(error.getStatusCode())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(error.getBody());
+    }
+
+    private void logException(Throwable ex, ServerRequest request) {
+        logger.error("Exception handler {}: {}\n{} {}", ex.getClass().getSimpleName(), ex.getMessage(), request.method(), request.path());
+    }
+}
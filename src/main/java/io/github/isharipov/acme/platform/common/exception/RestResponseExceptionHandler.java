@@ -7,6 +7,8 @@ import io.github.isharipov.acme.platform.common.exception.model.ErrorType;
 import io.github.isharipov.acme.platform.common.exception.model.FieldValidationError;
 import io.github.isharipov.acme.platform.common.exception.model.GlobalValidationError;
 import io.github.isharipov.acme.platform.common.exception.model.HttpServletRequestLog;
+import io.github.isharipov.acme.platform.common.security.password.PasswordHashingRejectedException;
+import io.github.isharipov.acme.platform.common.security.throttle.AuthenticationThrottledException;
 import io.github.isharipov.acme.platform.project.external.infrastructure.exception.ExternalProjectAlreadyExistsException;
 import io.github.isharipov.acme.platform.user.infrastructure.UserProfileNotFoundException;
 import jakarta.persistence.EntityNotFoundException;
@@ -15,15 +17,18 @@ import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.Locale;
 import java.util.stream.Collectors;
@@ -61,6 +66,18 @@ public class RestResponseExceptionHandler {
         return ErrorType.VALIDATION_ERROR.getErrorResponse(ex.getMessage());
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<?> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+        logException(ex, new HttpServletRequestLog(request));
+        return ErrorType.VALIDATION_ERROR.getErrorResponse(String.format("%s is not valid value for %s", ex.getValue(), ex.getName()));
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<?> handleInvalidCursorException(InvalidCursorException ex, HttpServletRequest request) {
+        logException(ex, new HttpServletRequestLog(request));
+        return ErrorType.VALIDATION_ERROR.getErrorResponse(ex.getMessage());
+    }
+
     @ExceptionHandler({EntityNotFoundException.class, UserProfileNotFoundException.class})
     public ResponseEntity<?> handleEntityExceptions(Exception ex, HttpServletRequest request) {
         logException(ex, new HttpServletRequestLog(request));
@@ -103,7 +120,7 @@ public class RestResponseExceptionHandler {
 
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<?> handleBadCredentialsException(BadCredentialsException ex, HttpServletRequest request) {
-        logException(ex, new HttpServletRequestLog(request));
+        logger.warn("Bad credentials [{} {}] from {}", request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
         return ErrorType.AUTH_ERROR.getErrorResponse(HttpStatus.UNAUTHORIZED, "Invalid credentials");
     }
 
@@ -113,14 +130,32 @@ public class RestResponseExceptionHandler {
         return ErrorType.AUTH_ERROR.getErrorResponse(HttpStatus.UNAUTHORIZED, ex.getMessage());
     }
 
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<?> handlePasswordHashingRejectedException(PasswordHashingRejectedException ex, HttpServletRequest request) {
+        logger.warn("Rejected [{} {}]: {}", request.getMethod(), request.getRequestURI(), ex.getMessage());
+        var response = ErrorType.SERVICE_BUSY.getErrorResponse(ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler(AuthenticationThrottledException.class)
+    public ResponseEntity<?> handleAuthenticationThrottledException(AuthenticationThrottledException ex, HttpServletRequest request) {
+        logger.warn("Throttled [{} {}] from {}", request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+        var response = ErrorType.TOO_MANY_REQUESTS.getErrorResponse(ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleUnexpectedException(Exception ex, HttpServletRequest request) {
         logException(ex, new HttpServletRequestLog(request));
         return ErrorType.INTERNAL_ERROR.getErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred.");
     }
 
-    @ExceptionHandler(DisabledException.class)
-    public ResponseEntity<?> handleDisabledException(DisabledException ex, HttpServletRequest request) {
+    @ExceptionHandler({DisabledException.class, LockedException.class})
+    public ResponseEntity<?> handleAccountStatusException(Exception ex, HttpServletRequest request) {
         logException(ex, new HttpServletRequestLog(request));
         return ErrorType.AUTH_ERROR.getErrorResponse(HttpStatus.UNAUTHORIZED, ex.getMessage());
     }
@@ -14,6 +14,11 @@ public enum ErrorType {
     EXTERNAL_PROJECT_ALREADY_EXISTS_ERROR(HttpStatus.CONFLICT, "External project is already exists"),
     AUTH_ERROR(HttpStatus.UNAUTHORIZED, "Authentication failed"),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "Access denied"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency key was already used for a different request"),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "Request with this idempotency key is still in progress"),
+    PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large"),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "Too many requests"),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "Service is busy, retry later"),
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected server error");
 
     private final HttpStatus httpStatus;
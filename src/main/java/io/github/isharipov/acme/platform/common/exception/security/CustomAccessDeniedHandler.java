@@ -1,13 +1,11 @@
 package io.github.isharipov.acme.platform.common.exception.security;
 
+import io.github.isharipov.acme.platform.common.exception.ErrorResponseWriter;
 import io.github.isharipov.acme.platform.common.exception.model.ErrorType;
-import io.github.isharipov.acme.platform.common.util.JsonUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.apache.hc.core5.http.ContentType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
@@ -19,6 +17,12 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(CustomAccessDeniedHandler.class);
 
+    private final ErrorResponseWriter errorResponseWriter;
+
+    public CustomAccessDeniedHandler(ErrorResponseWriter errorResponseWriter) {
+        this.errorResponseWriter = errorResponseWriter;
+    }
+
     @Override
     public void handle(HttpServletRequest request,
                        HttpServletResponse response,
@@ -27,8 +31,6 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
         logger.warn("Access denied on [{}]: {}", request.getRequestURI(), accessDeniedException.getMessage());
 
         var error = ErrorType.ACCESS_DENIED.getErrorResponse(accessDeniedException.getMessage());
-        response.setStatus(HttpStatus.FORBIDDEN.value());
-        response.setContentType(ContentType.APPLICATION_JSON.getMimeType());
-        response.getWriter().write(JsonUtil.toJson(error.getBody()));
+        errorResponseWriter.write(request, response, error);
     }
 }
\ No newline at end of file
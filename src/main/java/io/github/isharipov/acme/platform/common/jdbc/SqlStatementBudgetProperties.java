@@ -0,0 +1,22 @@
+package io.github.isharipov.acme.platform.common.jdbc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * @param defaultLimit statements a request may run before a warning is logged
+ * @param endpoints    per URI template overrides of {@code defaultLimit}, e.g. {@code "[/api/users/me/projects]": 2}
+ */
+@ConfigurationProperties(prefix = "sql.statement-budget")
+public record SqlStatementBudgetProperties(Integer defaultLimit, Map<String, Integer> endpoints) {
+
+    public SqlStatementBudgetProperties {
+        defaultLimit = defaultLimit != null ? defaultLimit : 10;
+        endpoints = endpoints != null ? Map.copyOf(endpoints) : Map.of();
+    }
+
+    public int limitFor(String uri) {
+        return endpoints.getOrDefault(uri, defaultLimit);
+    }
+}
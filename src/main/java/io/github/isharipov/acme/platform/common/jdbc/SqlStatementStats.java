@@ -0,0 +1,50 @@
+package io.github.isharipov.acme.platform.common.jdbc;
+
+/**
+ * Statements, rows and time spent in the JDBC driver by the current request. Bound to the request thread by
+ * {@link SqlStatementMetricsFilter}; statements run outside a request are not counted.
+ */
+public class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long rows;
+    private long nanos;
+
+    public static SqlStatementStats start() {
+        var stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(long elapsedNanos, long affectedRows) {
+        statements++;
+        nanos += elapsedNanos;
+        rows += Math.max(0, affectedRows);
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    public long statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.isharipov.acme.platform.common.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Feeds every statement executed through the wrapped data source into the current {@link SqlStatementStats}.
+ * Works below Hibernate, so statements issued by {@code JdbcTemplate} repositories are counted as well. When no
+ * request is being tracked the proxies only add a thread-local lookup per call.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        var connection = super.getConnection();
+        return wrap(Connection.class, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        var connection = super.getConnection(username, password);
+        return wrap(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T wrap(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var result = StatementCountingDataSource.invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return wrap(CallableStatement.class, new StatementHandler(statement));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrap(PreparedStatement.class, new StatementHandler(statement));
+            }
+            if (result instanceof Statement statement) {
+                return wrap(Statement.class, new StatementHandler(statement));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var stats = SqlStatementStats.current();
+            if (stats == null) {
+                return StatementCountingDataSource.invoke(target, method, args);
+            }
+            if (method.getName().startsWith("execute")) {
+                var start = System.nanoTime();
+                var result = StatementCountingDataSource.invoke(target, method, args);
+                stats.recordStatement(System.nanoTime() - start, affectedRows(result));
+                return result instanceof ResultSet resultSet ? wrapResultSet(resultSet) : result;
+            }
+            var result = StatementCountingDataSource.invoke(target, method, args);
+            return result instanceof ResultSet resultSet && method.getName().equals("getResultSet") ? wrapResultSet(resultSet) : result;
+        }
+
+        private static long affectedRows(Object result) {
+            if (result instanceof Number count) {
+                return count.longValue();
+            }
+            long sum = 0;
+            if (result instanceof int[] counts) {
+                for (var count : counts) {
+                    sum += Math.max(0, count);
+                }
+            } else if (result instanceof long[] counts) {
+                for (var count : counts) {
+                    sum += Math.max(0, count);
+                }
+            }
+            return sum;
+        }
+
+        private static ResultSet wrapResultSet(ResultSet resultSet) {
+            return wrap(ResultSet.class, new ResultSetHandler(resultSet));
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var result = StatementCountingDataSource.invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                var stats = SqlStatementStats.current();
+                if (stats != null) {
+                    stats.recordRow();
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.isharipov.acme.platform.common.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * UUID primary key that is generated on persist unless the application already assigned one. Generated ids are
+ * time-ordered {@link io.github.isharipov.acme.platform.common.util.UuidV7 version 7} UUIDs.
+ */
+@IdGeneratorType(AssignableUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface AssignableUuid {
+}
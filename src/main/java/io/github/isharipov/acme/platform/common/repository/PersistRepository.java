@@ -0,0 +1,10 @@
+package io.github.isharipov.acme.platform.common.repository;
+
+/**
+ * Repository fragment exposing {@code EntityManager.persist} for entities whose id is assigned before insert,
+ * where {@code save} would treat them as existing and {@code merge} them with an extra SELECT.
+ */
+public interface PersistRepository<T> {
+
+    <S extends T> S persist(S entity);
+}
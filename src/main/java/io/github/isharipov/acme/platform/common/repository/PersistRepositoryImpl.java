@@ -0,0 +1,18 @@
+package io.github.isharipov.acme.platform.common.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+
+public class PersistRepositoryImpl<T> implements PersistRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public <S extends T> S persist(S entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.isharipov.acme.platform.common.security.account;
+
+import io.github.isharipov.acme.platform.auth.domain.UserAuth.UserStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-process directory from auth id to account status and profile id, covering every account. Entries live in
+ * primitive arrays ({@link AccountTable}), so millions of accounts cost no per-entry objects. Lookups are lock-free
+ * optimistic reads; writes are serialized and resize the table when it gets {@value #LOAD_FACTOR} full.
+ */
+@Component
+public class AccountDirectory {
+
+    private static final double LOAD_FACTOR = 0.75;
+    private static final UserStatus[] STATUSES = UserStatus.values();
+
+    private final StampedLock lock = new StampedLock();
+    private AccountTable table;
+
+    public AccountDirectory(@Value("${auth.account-directory.expected-accounts:100000}") int expectedAccounts,
+                            MeterRegistry meterRegistry) {
+        this.table = new AccountTable(capacityFor(expectedAccounts));
+        Gauge.builder("auth.account-directory.size", this, AccountDirectory::size)
+                .description("Accounts held by the account status directory")
+                .register(meterRegistry);
+        Gauge.builder("auth.account-directory.memory", this, AccountDirectory::memoryBytes)
+                .description("Bytes used by the account status directory tables")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the account status, or {@code null} if the account is unknown to this instance
+     */
+    public UserStatus status(UUID authId) {
+        var msb = authId.getMostSignificantBits();
+        var lsb = authId.getLeastSignificantBits();
+        var stamp = lock.tryOptimisticRead();
+        var status = statusCode(table, msb, lsb);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                status = statusCode(table, msb, lsb);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return status == 0 ? null : STATUSES[status - 1];
+    }
+
+    /**
+     * @return the profile id, or {@code null} if the account or its profile is unknown to this instance
+     */
+    public UUID profileId(UUID authId) {
+        var stamp = lock.readLock();
+        try {
+            var slot = table.find(authId.getMostSignificantBits(), authId.getLeastSignificantBits());
+            if (slot < 0 || (table.profileMsb(slot) == 0 && table.profileLsb(slot) == 0)) {
+                return null;
+            }
+            return new UUID(table.profileMsb(slot), table.profileLsb(slot));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void put(UUID authId, UserStatus status, UUID profileId) {
+        var stamp = lock.writeLock();
+        try {
+            ensureCapacity(table.size() + 1);
+            table.put(authId.getMostSignificantBits(), authId.getLeastSignificantBits(), (byte) (status.ordinal() + 1),
+                    profileId != null ? profileId.getMostSignificantBits() : 0,
+                    profileId != null ? profileId.getLeastSignificantBits() : 0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Grows the table up front, so that a bulk load does not go through repeated resizes.
+     */
+    public void reserve(long accounts) {
+        var stamp = lock.writeLock();
+        try {
+            ensureCapacity(accounts);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountStatusChanged(AccountStatusChangedEvent event) {
+        put(event.authId(), event.status(), event.profileId());
+    }
+
+    public int size() {
+        var stamp = lock.readLock();
+        try {
+            return table.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long memoryBytes() {
+        var stamp = lock.readLock();
+        try {
+            return table.memoryBytes();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void ensureCapacity(long accounts) {
+        if (accounts <= (long) (table.capacity() * LOAD_FACTOR)) {
+            return;
+        }
+        var resized = new AccountTable(capacityFor(Math.max(accounts, (long) (table.capacity() * 1.5 * LOAD_FACTOR))));
+        table.copyTo(resized);
+        table = resized;
+    }
+
+    private static byte statusCode(AccountTable table, long msb, long lsb) {
+        var slot = table.find(msb, lsb);
+        return slot < 0 ? 0 : table.status(slot);
+    }
+
+    private static int capacityFor(long accounts) {
+        var capacity = (long) Math.ceil(Math.max(accounts, 16) / LOAD_FACTOR);
+        if (capacity > AccountTable.MAX_CAPACITY) {
+            throw new IllegalStateException("Account directory cannot hold " + accounts + " accounts");
+        }
+        return (int) capacity;
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.isharipov.acme.platform.common.security.account;
+
+import io.github.isharipov.acme.platform.auth.domain.UserAuth.UserStatus;
+
+import java.util.UUID;
+
+/**
+ * Published whenever an account is created or its status changes. {@code profileId} is {@code null}
+ * when the change does not touch the profile.
+ */
+public record AccountStatusChangedEvent(UUID authId, UserStatus status, UUID profileId) {
+}
@@ -0,0 +1,109 @@
+package io.github.isharipov.acme.platform.common.security.account;
+
+/**
+ * Open-addressing hash table with linear probing, keyed by a UUID split into two longs. Each slot takes four
+ * longs (auth id and profile id) and one status byte, where {@code 0} marks an empty slot. Entries are never
+ * removed, a deleted account is just another status. Not thread-safe, see {@link AccountDirectory}.
+ */
+final class AccountTable {
+
+    static final int MAX_CAPACITY = (Integer.MAX_VALUE - 8) / 4;
+
+    private static final int SLOT_LONGS = 4;
+
+    private final int capacity;
+    private final long[] ids;
+    private final byte[] statuses;
+    private int size;
+
+    AccountTable(int capacity) {
+        this.capacity = capacity;
+        this.ids = new long[capacity * SLOT_LONGS];
+        this.statuses = new byte[capacity];
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long memoryBytes() {
+        return (long) ids.length * Long.BYTES + statuses.length;
+    }
+
+    int find(long authMsb, long authLsb) {
+        int slot = slot(authMsb, authLsb);
+        while (statuses[slot] != 0) {
+            int offset = slot * SLOT_LONGS;
+            if (ids[offset] == authMsb && ids[offset + 1] == authLsb) {
+                return slot;
+            }
+            if (++slot == capacity) {
+                slot = 0;
+            }
+        }
+        return -1;
+    }
+
+    byte status(int slot) {
+        return statuses[slot];
+    }
+
+    long profileMsb(int slot) {
+        return ids[slot * SLOT_LONGS + 2];
+    }
+
+    long profileLsb(int slot) {
+        return ids[slot * SLOT_LONGS + 3];
+    }
+
+    /**
+     * Inserts or updates an entry; a zero profile id keeps the one already stored. The caller must make sure
+     * there is a free slot left.
+     */
+    void put(long authMsb, long authLsb, byte status, long profileMsb, long profileLsb) {
+        int slot = slot(authMsb, authLsb);
+        while (statuses[slot] != 0) {
+            int offset = slot * SLOT_LONGS;
+            if (ids[offset] == authMsb && ids[offset + 1] == authLsb) {
+                if (profileMsb != 0 || profileLsb != 0) {
+                    ids[offset + 2] = profileMsb;
+                    ids[offset + 3] = profileLsb;
+                }
+                statuses[slot] = status;
+                return;
+            }
+            if (++slot == capacity) {
+                slot = 0;
+            }
+        }
+        int offset = slot * SLOT_LONGS;
+        ids[offset] = authMsb;
+        ids[offset + 1] = authLsb;
+        ids[offset + 2] = profileMsb;
+        ids[offset + 3] = profileLsb;
+        statuses[slot] = status;
+        size++;
+    }
+
+    void copyTo(AccountTable target) {
+        for (int slot = 0; slot < capacity; slot++) {
+            if (statuses[slot] != 0) {
+                int offset = slot * SLOT_LONGS;
+                target.put(ids[offset], ids[offset + 1], statuses[slot], ids[offset + 2], ids[offset + 3]);
+            }
+        }
+    }
+
+    private int slot(long msb, long lsb) {
+        long hash = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        // Maps the top 32 bits onto [0, capacity) without requiring a power-of-two capacity.
+        return (int) (((hash >>> 32) * capacity) >>> 32);
+    }
+}
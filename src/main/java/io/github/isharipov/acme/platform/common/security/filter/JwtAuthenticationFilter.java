@@ -2,6 +2,10 @@ package io.github.isharipov.acme.platform.common.security.filter;
 
 import io.github.isharipov.acme.platform.common.dto.Principal;
 import io.github.isharipov.acme.platform.common.exception.JwtAuthenticationException;
+import io.github.isharipov.acme.platform.common.security.account.AccountDirectory;
+import io.github.isharipov.acme.platform.common.security.token.AccessTokenVerifier;
+import io.github.isharipov.acme.platform.common.security.token.TokenRevocationStore;
+import io.github.isharipov.acme.platform.common.security.token.VerifiedTokenCache;
 import io.github.isharipov.acme.platform.common.service.JwtTokenProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -11,25 +15,34 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.AuthenticationEntryPoint;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.UUID;
+import java.util.Set;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenVerifier accessTokenVerifier;
     private final AuthenticationEntryPoint authenticationEntryPoint;
+    private final Set<String> adminEmails;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, AuthenticationEntryPoint authenticationEntryPoint) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   VerifiedTokenCache verifiedTokenCache,
+                                   TokenRevocationStore tokenRevocationStore,
+                                   AccountDirectory accountDirectory,
+                                   AuthenticationEntryPoint authenticationEntryPoint,
+                                   Set<String> adminEmails) {
+        this.accessTokenVerifier = new AccessTokenVerifier(jwtTokenProvider, verifiedTokenCache, tokenRevocationStore, accountDirectory);
         this.authenticationEntryPoint = authenticationEntryPoint;
+        this.adminEmails = Set.copyOf(adminEmails);
     }
 
     @Override
@@ -40,13 +53,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = resolveToken(request);
             if (token != null) {
                 logger.debug("Token detected in request [{}]", request.getRequestURI());
-                var claims = jwtTokenProvider.parseClaims(token);
-                var authId = UUID.fromString(claims.getSubject());
-                var email = claims.get("email", String.class);
-                logger.debug("Authenticated user authId={}, email={} from JWT", authId, email);
-                var principal = new Principal(authId, email);
+                var principal = accessTokenVerifier.verify(token);
+                logger.debug("Authenticated user authId={}, email={} from JWT", principal.authId(), principal.email());
+                var authorities = isAdmin(principal) ? ADMIN_AUTHORITIES : List.<GrantedAuthority>of();
                 var authentication =
-                        new UsernamePasswordAuthenticationToken(principal, null, List.of());
+                        new UsernamePasswordAuthenticationToken(principal, null, authorities);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } else {
                 logger.trace("No JWT token found in request [{}]", request.getRequestURI());
@@ -59,15 +70,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
+    private boolean isAdmin(Principal principal) {
+        return principal.email() != null && adminEmails.contains(principal.email());
+    }
+
     private String resolveToken(HttpServletRequest request) {
-        var bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
-        if (StringUtils.hasText(bearerToken)) {
-            bearerToken = bearerToken.trim();
-            if (bearerToken.startsWith("Bearer ")) {
-                return bearerToken.substring(7);
-            }
+        var header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        var token = AccessTokenVerifier.resolveBearerToken(header);
+        if (token == null && header != null && !header.isBlank()) {
             logger.debug("Authorization header present but does not start with Bearer");
         }
-        return null;
+        return token;
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package io.github.isharipov.acme.platform.common.security.filter;
+
+import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.github.isharipov.acme.platform.common.exception.JwtAuthenticationException;
+import io.github.isharipov.acme.platform.common.security.token.AccessTokenVerifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link JwtAuthenticationFilter}: every route it guards requires a valid access token, and
+ * the verified caller is exposed through {@link #principal(ServerRequest)}.
+ */
+public class ReactiveJwtAuthenticationFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    private static final String PRINCIPAL_ATTRIBUTE = ReactiveJwtAuthenticationFilter.class.getName() + ".PRINCIPAL";
+
+    private final AccessTokenVerifier accessTokenVerifier;
+
+    public ReactiveJwtAuthenticationFilter(AccessTokenVerifier accessTokenVerifier) {
+        this.accessTokenVerifier = accessTokenVerifier;
+    }
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        var token = AccessTokenVerifier.resolveBearerToken(request.headers().firstHeader(HttpHeaders.AUTHORIZATION));
+        if (token == null) {
+            return Mono.error(new JwtAuthenticationException("Full authentication is required to access this resource"));
+        }
+        Principal principal;
+        try {
+            principal = accessTokenVerifier.verify(token);
+        } catch (JwtAuthenticationException e) {
+            return Mono.error(e);
+        }
+        request.attributes().put(PRINCIPAL_ATTRIBUTE, principal);
+        return next.handle(request);
+    }
+
+    public static Principal principal(ServerRequest request) {
+        return (Principal) request.attribute(PRINCIPAL_ATTRIBUTE)
+                .orElseThrow(() -> new IllegalStateException("Route is not guarded by " + ReactiveJwtAuthenticationFilter.class.getSimpleName()));
+    }
+}
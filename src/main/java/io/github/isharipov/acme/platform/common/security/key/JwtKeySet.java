@@ -0,0 +1,61 @@
+package io.github.isharipov.acme.platform.common.security.key;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Raw JWT signing secrets by key id. Accepts {@code jwt.keys.<kid>} entries selected by {@code jwt.active-kid};
+ * the single {@code jwt.secret} value is kept under the {@value #LEGACY_KEY_ID} id so that tokens issued
+ * without a {@code kid} header keep verifying.
+ */
+public record JwtKeySet(String activeKeyId, Map<String, String> secrets) {
+
+    public static final String LEGACY_KEY_ID = "default";
+
+    private static final String SECRET_PROPERTY = "jwt.secret";
+    private static final String ACTIVE_KEY_ID_PROPERTY = "jwt.active-kid";
+    private static final String KEYS_PROPERTY = "jwt.keys";
+
+    public static JwtKeySet fromEnvironment(Environment environment) {
+        var secrets = Binder.get(environment)
+                .bind(KEYS_PROPERTY, Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        return of(environment.getProperty(SECRET_PROPERTY), secrets, environment.getProperty(ACTIVE_KEY_ID_PROPERTY));
+    }
+
+    public static JwtKeySet fromProperties(Map<String, ?> properties) {
+        var prefix = KEYS_PROPERTY + ".";
+        var secrets = new HashMap<String, String>();
+        properties.forEach((name, value) -> {
+            if (name.startsWith(prefix) && value != null) {
+                secrets.put(name.substring(prefix.length()), value.toString());
+            }
+        });
+        var legacySecret = properties.get(SECRET_PROPERTY);
+        var activeKeyId = properties.get(ACTIVE_KEY_ID_PROPERTY);
+        return of(legacySecret != null ? legacySecret.toString() : null,
+                secrets,
+                activeKeyId != null ? activeKeyId.toString() : null);
+    }
+
+    private static JwtKeySet of(String legacySecret, Map<String, String> keys, String activeKeyId) {
+        var secrets = new HashMap<>(keys);
+        if (legacySecret != null && !legacySecret.isBlank()) {
+            secrets.putIfAbsent(LEGACY_KEY_ID, legacySecret);
+        }
+        if (secrets.isEmpty()) {
+            throw new IllegalStateException("No JWT signing keys configured, set jwt.secret or jwt.keys.<kid>");
+        }
+        if (activeKeyId == null || activeKeyId.isBlank()) {
+            activeKeyId = secrets.size() == 1 ? secrets.keySet().iterator().next() : LEGACY_KEY_ID;
+        }
+        if (!secrets.containsKey(activeKeyId)) {
+            throw new IllegalStateException("No JWT signing secret configured for active key id " + activeKeyId);
+        }
+        return new JwtKeySet(activeKeyId, Map.copyOf(secrets));
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.isharipov.acme.platform.common.security.key;
+
+import io.jsonwebtoken.security.Keys;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Precomputed HMAC keys selected by the {@code kid} JWT header. The whole keyring is swapped atomically on
+ * {@link #update(JwtKeySet)}, so readers never observe a half-applied rotation.
+ */
+@Component
+public class JwtKeyring {
+
+    private volatile Snapshot snapshot;
+
+    public JwtKeyring(Environment environment) {
+        this.snapshot = Snapshot.of(JwtKeySet.fromEnvironment(environment));
+    }
+
+    public SigningKey signingKey() {
+        return snapshot.signingKey();
+    }
+
+    public SecretKey findVerificationKey(String keyId) {
+        return snapshot.keys().get(keyId != null ? keyId : JwtKeySet.LEGACY_KEY_ID);
+    }
+
+    public Set<String> keyIds() {
+        return snapshot.keys().keySet();
+    }
+
+    /**
+     * @return ids of keys that were removed or whose secret changed, tokens signed with them no longer verify
+     */
+    public Set<String> update(JwtKeySet keySet) {
+        var previous = snapshot;
+        var next = Snapshot.of(keySet);
+        var retired = new HashSet<String>();
+        previous.keys().forEach((keyId, key) -> {
+            if (!key.equals(next.keys().get(keyId))) {
+                retired.add(keyId);
+            }
+        });
+        snapshot = next;
+        return retired;
+    }
+
+    public record SigningKey(String keyId, SecretKey key) {
+    }
+
+    private record Snapshot(SigningKey signingKey, Map<String, SecretKey> keys) {
+
+        static Snapshot of(JwtKeySet keySet) {
+            var keys = new HashMap<String, SecretKey>();
+            keySet.secrets().forEach((keyId, secret) ->
+                    keys.put(keyId, Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8))));
+            var activeKeyId = keySet.activeKeyId();
+            return new Snapshot(new SigningKey(activeKeyId, keys.get(activeKeyId)), Map.copyOf(keys));
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package io.github.isharipov.acme.platform.common.security.key;
+
+import java.util.Set;
+
+public record JwtKeysRetiredEvent(Set<String> keyIds) {
+}
@@ -0,0 +1,71 @@
+package io.github.isharipov.acme.platform.common.security.key;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.vault.core.VaultTemplate;
+
+/**
+ * Re-reads the JWT keys from the Vault KV v2 path the application is configured from, on the scheduler thread,
+ * so that keys can be rotated without a restart.
+ */
+@Component
+public class VaultJwtKeyringRefresher {
+
+    private static final Logger logger = LoggerFactory.getLogger(VaultJwtKeyringRefresher.class);
+
+    private final JwtKeyring jwtKeyring;
+    private final ObjectProvider<VaultTemplate> vaultTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String backend;
+    private final String path;
+
+    private int loadedVersion = -1;
+
+    public VaultJwtKeyringRefresher(JwtKeyring jwtKeyring,
+                                    ObjectProvider<VaultTemplate> vaultTemplate,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${spring.cloud.vault.kv.backend:secret}") String backend,
+                                    @Value("${spring.cloud.vault.kv.default-context:acme-platform}") String path) {
+        this.jwtKeyring = jwtKeyring;
+        this.vaultTemplate = vaultTemplate;
+        this.eventPublisher = eventPublisher;
+        this.backend = backend;
+        this.path = path;
+    }
+
+    @Scheduled(initialDelayString = "${jwt.keyring.refresh-interval:PT1M}",
+            fixedDelayString = "${jwt.keyring.refresh-interval:PT1M}")
+    public void refresh() {
+        var vault = vaultTemplate.getIfAvailable();
+        if (vault == null) {
+            return;
+        }
+        try {
+            var secret = vault.opsForVersionedKeyValue(backend).get(path);
+            if (secret == null || !secret.hasData()) {
+                logger.warn("No JWT keys found in Vault at {}/{}", backend, path);
+                return;
+            }
+            var version = secret.getVersion().getVersion();
+            if (version == loadedVersion) {
+                return;
+            }
+            var keySet = JwtKeySet.fromProperties(secret.getRequiredData());
+            var retired = jwtKeyring.update(keySet);
+            loadedVersion = version;
+            logger.info("Reloaded JWT keyring from Vault version={}, activeKeyId={}, keyIds={}",
+                    version, keySet.activeKeyId(), keySet.secrets().keySet());
+            if (!retired.isEmpty()) {
+                logger.info("Retired JWT keys {}", retired);
+                eventPublisher.publishEvent(new JwtKeysRetiredEvent(retired));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to reload JWT keyring from Vault, keeping current keys: {}", e.getMessage());
+        }
+    }
+}
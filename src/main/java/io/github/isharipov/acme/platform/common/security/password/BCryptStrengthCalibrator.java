@@ -0,0 +1,55 @@
+package io.github.isharipov.acme.platform.common.security.password;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.function.IntFunction;
+
+/**
+ * Picks the highest BCrypt strength whose verify latency on the current hardware stays within the target.
+ * Each strength step doubles the work, so the latency measured at {@code minStrength} is extrapolated upwards.
+ */
+public class BCryptStrengthCalibrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BCryptStrengthCalibrator.class);
+
+    private static final String SAMPLE_PASSWORD = "calibration-Password-123!";
+    private static final int SAMPLES = 3;
+
+    private final IntFunction<Duration> benchmark;
+
+    public BCryptStrengthCalibrator() {
+        this(BCryptStrengthCalibrator::measure);
+    }
+
+    BCryptStrengthCalibrator(IntFunction<Duration> benchmark) {
+        this.benchmark = benchmark;
+    }
+
+    public int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        var baseline = benchmark.apply(minStrength);
+        var strength = minStrength;
+        var estimatedNanos = baseline.toNanos();
+        while (strength < maxStrength && estimatedNanos * 2 <= targetLatency.toNanos()) {
+            estimatedNanos *= 2;
+            strength++;
+        }
+        logger.info("Calibrated BCrypt strength={} (measured {} ms at strength={}, target {} ms)",
+                strength, baseline.toMillis(), minStrength, targetLatency.toMillis());
+        return strength;
+    }
+
+    private static Duration measure(int strength) {
+        var encoder = new BCryptPasswordEncoder(strength);
+        var hash = encoder.encode(SAMPLE_PASSWORD);
+        var best = Long.MAX_VALUE;
+        for (var i = 0; i < SAMPLES; i++) {
+            var start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, hash);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return Duration.ofNanos(best);
+    }
+}
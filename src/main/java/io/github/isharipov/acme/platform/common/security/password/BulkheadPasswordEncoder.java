@@ -0,0 +1,124 @@
+package io.github.isharipov.acme.platform.common.security.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hashing and verification of the delegate on a dedicated, size-capped executor with a bounded queue,
+ * so that CPU-heavy authentication traffic cannot occupy every request thread. Calls that cannot be queued, or that
+ * wait in the queue longer than {@code maxWait}, fail fast with {@link PasswordHashingRejectedException}.
+ */
+public class BulkheadPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkheadPasswordEncoder.class);
+
+    private static final int QUEUED = 0;
+    private static final int STARTED = 1;
+    private static final int ABANDONED = 2;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final Timer waitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BulkheadPasswordEncoder(PasswordEncoder delegate,
+                                   ThreadPoolExecutor executor,
+                                   Duration maxWait,
+                                   MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.maxWait = maxWait;
+        this.waitTimer = Timer.builder("auth.password.hashing.wait")
+                .description("Time password hashing tasks spend queued")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hashing.duration")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hashing.duration")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hashing.rejected")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * {@code maxWait} bounds admission only: a task still queued at the deadline is abandoned and never runs, while a
+     * task that has started is always waited for, since BCrypt cannot be interrupted and its CPU is spent anyway.
+     */
+    private <T> T execute(Timer hashTimer, Callable<T> task) {
+        var enqueuedAt = System.nanoTime();
+        var state = new AtomicInteger(QUEUED);
+        var started = new CountDownLatch(1);
+        try {
+            var future = executor.submit(() -> {
+                if (!state.compareAndSet(QUEUED, STARTED)) {
+                    return null;
+                }
+                started.countDown();
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(task);
+            });
+            if (!started.await(maxWait.toMillis(), TimeUnit.MILLISECONDS) && state.compareAndSet(QUEUED, ABANDONED)) {
+                executor.remove((Runnable) future);
+                rejectedCounter.increment();
+                logger.warn("Password hashing did not start within {}", maxWait);
+                throw new PasswordHashingRejectedException("Password hashing capacity exceeded");
+            }
+            return future.get();
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            logger.warn("Password hashing queue is full, rejecting request");
+            throw new PasswordHashingRejectedException("Password hashing capacity exceeded", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.isharipov.acme.platform.common.security.password;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param strength fixed BCrypt strength; when unset the strength is calibrated at startup against {@code targetLatency}
+ */
+@ConfigurationProperties(prefix = "auth.password-hashing")
+public record PasswordHashingProperties(Integer poolSize,
+                                        Integer queueCapacity,
+                                        Duration maxWait,
+                                        Integer strength,
+                                        Duration targetLatency,
+                                        Integer minStrength,
+                                        Integer maxStrength) {
+
+    public PasswordHashingProperties {
+        poolSize = poolSize != null ? poolSize : Runtime.getRuntime().availableProcessors();
+        queueCapacity = queueCapacity != null ? queueCapacity : 64;
+        maxWait = maxWait != null ? maxWait : Duration.ofSeconds(2);
+        targetLatency = targetLatency != null ? targetLatency : Duration.ofMillis(250);
+        minStrength = minStrength != null ? minStrength : 10;
+        maxStrength = maxStrength != null ? maxStrength : 16;
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.isharipov.acme.platform.common.security.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket throttling of authentication attempts per account and per client address, checked before any
+ * password is hashed or verified. Buckets live in size-bounded caches that drop idle keys.
+ */
+@Component
+public class AuthenticationThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthenticationThrottle.class);
+
+    private final Limiter accountLimiter;
+    private final Limiter ipLimiter;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public AuthenticationThrottle(AuthenticationThrottleProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    AuthenticationThrottle(AuthenticationThrottleProperties properties, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.accountLimiter = new Limiter("account", properties.account(), properties, meterRegistry);
+        this.ipLimiter = new Limiter("ip", properties.ip(), properties, meterRegistry);
+    }
+
+    public void checkLogin(String email, String remoteAddress) {
+        ipLimiter.acquire(remoteAddress);
+        if (email != null) {
+            accountLimiter.acquire(email.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    public void checkRefresh(String remoteAddress) {
+        ipLimiter.acquire(remoteAddress);
+    }
+
+    private final class Limiter {
+
+        private final String name;
+        private final double capacity;
+        private final double tokensPerNano;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter rejected;
+
+        Limiter(String name,
+                AuthenticationThrottleProperties.Limit limit,
+                AuthenticationThrottleProperties properties,
+                MeterRegistry meterRegistry) {
+            this.name = name;
+            this.capacity = limit.capacity();
+            this.tokensPerNano = limit.capacity() / (double) limit.period().toNanos();
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(properties.maximumKeys())
+                    .expireAfterAccess(properties.idleTimeout())
+                    .build();
+            this.rejected = Counter.builder("auth.throttle.rejected")
+                    .tag("limit", name)
+                    .register(meterRegistry);
+            Gauge.builder("auth.throttle.keys", buckets, Cache::estimatedSize)
+                    .tag("limit", name)
+                    .register(meterRegistry);
+        }
+
+        void acquire(String key) {
+            if (key == null) {
+                return;
+            }
+            var now = nanoTime.getAsLong();
+            var bucket = buckets.get(key, k -> new TokenBucket(capacity, now));
+            var waitNanos = bucket.tryConsume(now, capacity, tokensPerNano);
+            if (waitNanos > 0) {
+                rejected.increment();
+                // counted rather than logged per attempt, so an attack neither floods the log nor writes account ids to it
+                logger.debug("Authentication attempt throttled by {} limit", name);
+                var retryAfter = Duration.ofSeconds(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+                throw new AuthenticationThrottledException("Too many authentication attempts", retryAfter);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.isharipov.acme.platform.common.security.throttle;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param account     bucket per normalized login email
+ * @param ip          bucket per client address
+ * @param maximumKeys upper bound of buckets kept per limit; least recently used keys are evicted first
+ * @param idleTimeout buckets untouched for this long are dropped, since they would be full again anyway
+ */
+@ConfigurationProperties(prefix = "auth.throttle")
+public record AuthenticationThrottleProperties(Limit account, Limit ip, Long maximumKeys, Duration idleTimeout) {
+
+    public AuthenticationThrottleProperties {
+        account = account != null ? account : new Limit(10, Duration.ofMinutes(5));
+        ip = ip != null ? ip : new Limit(100, Duration.ofMinutes(1));
+        maximumKeys = maximumKeys != null ? maximumKeys : 100_000L;
+        idleTimeout = idleTimeout != null ? idleTimeout : Duration.ofMinutes(10);
+    }
+
+    /**
+     * @param capacity burst size of the bucket
+     * @param period   time needed to refill an empty bucket to {@code capacity}
+     */
+    public record Limit(int capacity, Duration period) {
+    }
+}
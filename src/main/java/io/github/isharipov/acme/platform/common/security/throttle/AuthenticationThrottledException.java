@@ -0,0 +1,21 @@
+package io.github.isharipov.acme.platform.common.security.throttle;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class AuthenticationThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public AuthenticationThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
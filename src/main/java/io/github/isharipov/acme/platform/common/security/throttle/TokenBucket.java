@@ -0,0 +1,35 @@
+package io.github.isharipov.acme.platform.common.security.throttle;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket: the whole state is swapped with a single CAS, refilling lazily on each attempt.
+ */
+final class TokenBucket {
+
+    private final AtomicReference<State> state;
+
+    TokenBucket(double capacity, long nowNanos) {
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * @return {@code 0} when a token was taken, otherwise the nanoseconds until the next token becomes available
+     */
+    long tryConsume(long nowNanos, double capacity, double tokensPerNano) {
+        while (true) {
+            var current = state.get();
+            var elapsed = Math.max(0, nowNanos - current.updatedAt());
+            var tokens = Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, Math.max(nowNanos, current.updatedAt())))) {
+                return 0;
+            }
+        }
+    }
+
+    private record State(double tokens, long updatedAt) {
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.isharipov.acme.platform.common.security.token;
+
+import io.github.isharipov.acme.platform.auth.domain.UserAuth.UserStatus;
+import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.github.isharipov.acme.platform.common.exception.JwtAuthenticationException;
+import io.github.isharipov.acme.platform.common.security.account.AccountDirectory;
+import io.github.isharipov.acme.platform.common.service.JwtTokenProvider;
+import org.springframework.util.StringUtils;
+
+/**
+ * Turns a bearer access token into a {@link Principal}: signature and claims are verified once per token, then
+ * revocation and account status are checked on every call. Shared by the servlet and the reactive read stacks.
+ */
+public class AccessTokenVerifier {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final AccountDirectory accountDirectory;
+
+    public AccessTokenVerifier(JwtTokenProvider jwtTokenProvider,
+                               VerifiedTokenCache verifiedTokenCache,
+                               TokenRevocationStore tokenRevocationStore,
+                               AccountDirectory accountDirectory) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.accountDirectory = accountDirectory;
+    }
+
+    /**
+     * @return the token of a {@code Bearer} authorization header, or {@code null} if there is none
+     */
+    public static String resolveBearerToken(String authorizationHeader) {
+        if (StringUtils.hasText(authorizationHeader)) {
+            var header = authorizationHeader.trim();
+            if (header.startsWith(BEARER_PREFIX)) {
+                return header.substring(BEARER_PREFIX.length());
+            }
+        }
+        return null;
+    }
+
+    public Principal verify(String token) {
+        var principal = verifiedTokenCache.get(token, this::verifyToken).principal();
+        if (tokenRevocationStore.isRevoked(principal.tokenId())) {
+            throw new JwtAuthenticationException("Token has been revoked");
+        }
+        var status = accountDirectory.status(principal.authId());
+        if (status != null && status != UserStatus.ACTIVE) {
+            throw new JwtAuthenticationException("Account is " + status.name().toLowerCase());
+        }
+        return principal;
+    }
+
+    private VerifiedToken verifyToken(String token) {
+        var principal = jwtTokenProvider.parseToken(token);
+        if (principal.tokenType() != TokenType.ACCESS) {
+            throw new JwtAuthenticationException("Token is not an access token");
+        }
+        return new VerifiedToken(principal, principal.expiresAt());
+    }
+}
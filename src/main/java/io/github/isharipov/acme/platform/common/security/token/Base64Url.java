@@ -0,0 +1,84 @@
+package io.github.isharipov.acme.platform.common.security.token;
+
+import java.util.Arrays;
+
+/**
+ * Unpadded base64url (RFC 4648 §5) working on caller-provided buffers, so that encoding and decoding JWT segments
+ * does not allocate intermediate arrays or strings.
+ */
+final class Base64Url {
+
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    private static final int[] VALUES = new int[128];
+
+    static {
+        Arrays.fill(VALUES, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = i;
+        }
+    }
+
+    private Base64Url() {
+    }
+
+    static void encode(byte[] src, int offset, int length, StringBuilder out) {
+        int i = offset;
+        int end = offset + length;
+        while (end - i >= 3) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            out.append(ALPHABET[bits >>> 18 & 0x3f])
+                    .append(ALPHABET[bits >>> 12 & 0x3f])
+                    .append(ALPHABET[bits >>> 6 & 0x3f])
+                    .append(ALPHABET[bits & 0x3f]);
+            i += 3;
+        }
+        int remaining = end - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xff) << 16;
+            out.append(ALPHABET[bits >>> 18 & 0x3f]).append(ALPHABET[bits >>> 12 & 0x3f]);
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8;
+            out.append(ALPHABET[bits >>> 18 & 0x3f])
+                    .append(ALPHABET[bits >>> 12 & 0x3f])
+                    .append(ALPHABET[bits >>> 6 & 0x3f]);
+        }
+    }
+
+    static int decodedLength(int encodedLength) {
+        return encodedLength * 3 / 4;
+    }
+
+    /**
+     * Decodes {@code src[from, to)} into {@code dst}.
+     *
+     * @return number of bytes written
+     * @throws IllegalArgumentException if the input is not unpadded base64url or does not fit into {@code dst}
+     */
+    static int decode(CharSequence src, int from, int to, byte[] dst) {
+        if ((to - from) % 4 == 1) {
+            throw new IllegalArgumentException("Invalid base64url length");
+        }
+        int accumulator = 0;
+        int bits = 0;
+        int position = 0;
+        for (int i = from; i < to; i++) {
+            char c = src.charAt(i);
+            int value = c < VALUES.length ? VALUES[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("Invalid base64url character");
+            }
+            accumulator = accumulator << 6 | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                if (position == dst.length) {
+                    throw new IllegalArgumentException("Decoded segment is too long");
+                }
+                dst[position++] = (byte) (accumulator >>> bits);
+                accumulator &= (1 << bits) - 1;
+            }
+        }
+        return position;
+    }
+}
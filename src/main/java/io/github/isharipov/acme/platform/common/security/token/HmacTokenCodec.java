@@ -0,0 +1,380 @@
+package io.github.isharipov.acme.platform.common.security.token;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.github.isharipov.acme.platform.common.security.key.JwtKeyring;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * HS256 JWT codec specialised for the claims this service issues: {@code jti}, {@code typ}, {@code sub},
+ * {@code email}, {@code pid}, {@code iat} and {@code exp}. Header segments are precomputed per key id, {@link Mac} instances and scratch
+ * buffers are confined to the calling thread and payloads are decoded straight into a {@link Principal}.
+ * Tokens stay wire-compatible with the ones jjwt issues and parses.
+ */
+public class HmacTokenCodec {
+
+    private static final String ALGORITHM = "HS256";
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final JsonStringEncoder JSON_STRING_ENCODER = JsonStringEncoder.getInstance();
+
+    private final JwtKeyring jwtKeyring;
+    private final LongSupplier clock;
+    private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(Workspace::new);
+    private volatile Headers headers;
+
+    public HmacTokenCodec(JwtKeyring jwtKeyring) {
+        this(jwtKeyring, System::currentTimeMillis);
+    }
+
+    HmacTokenCodec(JwtKeyring jwtKeyring, LongSupplier clock) {
+        this.jwtKeyring = jwtKeyring;
+        this.clock = clock;
+    }
+
+    public String encode(TokenType type, String subject, String email, UUID profileId, Duration ttl) {
+        var signingKey = jwtKeyring.signingKey();
+        var issuedAt = clock.getAsLong() / 1000;
+        var workspace = workspaces.get();
+
+        var payload = workspace.json;
+        payload.setLength(0);
+        payload.append("{\"jti\":\"").append(randomTokenId())
+                .append("\",\"typ\":\"").append(type.claim())
+                .append("\",\"sub\":\"");
+        JSON_STRING_ENCODER.quoteAsString(subject, payload);
+        payload.append('"');
+        if (email != null) {
+            payload.append(",\"email\":\"");
+            JSON_STRING_ENCODER.quoteAsString(email, payload);
+            payload.append('"');
+        }
+        if (profileId != null) {
+            payload.append(",\"pid\":\"").append(profileId).append('"');
+        }
+        payload.append(",\"iat\":").append(issuedAt)
+                .append(",\"exp\":").append(issuedAt + ttl.toSeconds())
+                .append('}');
+
+        var token = workspace.text;
+        token.setLength(0);
+        token.append(headers().segment(signingKey.keyId())).append('.');
+        var payloadLength = workspace.utf8(payload);
+        Base64Url.encode(workspace.buffer, 0, payloadLength, token);
+
+        var signingInputLength = workspace.ascii(token, 0, token.length());
+        var mac = workspace.mac(signingKey.key());
+        mac.update(workspace.buffer, 0, signingInputLength);
+        workspace.doFinal(mac, workspace.expectedSignature);
+        token.append('.');
+        Base64Url.encode(workspace.expectedSignature, 0, SIGNATURE_LENGTH, token);
+        return token.toString();
+    }
+
+    /**
+     * Verifies the signature, {@code exp} and {@code nbf} of the token. Tokens without {@code exp} are accepted,
+     * as jjwt does, and reported with {@link Instant#EPOCH} as their expiry.
+     *
+     * @throws IllegalArgumentException if the token is malformed, not signed with a known key or expired
+     */
+    public Principal decode(String token) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (headerEnd <= 0 || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw invalid("Malformed JWT");
+        }
+        var workspace = workspaces.get();
+        var key = resolveKey(token, headerEnd, workspace);
+
+        var signingInputLength = workspace.ascii(token, 0, payloadEnd);
+        var mac = workspace.mac(key);
+        mac.update(workspace.buffer, 0, signingInputLength);
+        workspace.doFinal(mac, workspace.expectedSignature);
+        var signatureLength = Base64Url.decode(token, payloadEnd + 1, token.length(), workspace.actualSignature);
+        if (signatureLength != SIGNATURE_LENGTH
+                || !MessageDigest.isEqual(workspace.expectedSignature, workspace.actualSignature)) {
+            throw invalid("JWT signature does not match");
+        }
+
+        var payloadLength = workspace.decode(token, headerEnd + 1, payloadEnd);
+        return parsePayload(workspace.buffer, payloadLength);
+    }
+
+    private SecretKey resolveKey(String token, int headerEnd, Workspace workspace) {
+        var current = headers();
+        for (int i = 0; i < current.segments.length; i++) {
+            var segment = current.segments[i];
+            if (segment.length() == headerEnd && token.startsWith(segment)) {
+                return verificationKey(current.keyIds[i]);
+            }
+        }
+        var headerLength = workspace.decode(token, 0, headerEnd);
+        return verificationKey(parseHeader(workspace.buffer, headerLength));
+    }
+
+    private SecretKey verificationKey(String keyId) {
+        var key = jwtKeyring.findVerificationKey(keyId);
+        if (key == null) {
+            throw invalid("Unknown JWT signing key id " + keyId);
+        }
+        return key;
+    }
+
+    private Headers headers() {
+        var current = headers;
+        var keyIds = jwtKeyring.keyIds();
+        if (current == null || current.source != keyIds) {
+            current = Headers.of(keyIds);
+            headers = current;
+        }
+        return current;
+    }
+
+    private static String parseHeader(byte[] json, int length) {
+        String algorithm = null;
+        String keyId = null;
+        try (var parser = JSON_FACTORY.createParser(json, 0, length)) {
+            expectObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var name = parser.currentName();
+                parser.nextToken();
+                switch (name) {
+                    case "alg" -> algorithm = stringValue(parser);
+                    case "kid" -> keyId = stringValue(parser);
+                    case "crit", "zip", "b64" -> throw invalid("Unsupported JWT header " + name);
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw invalid("Malformed JWT header");
+        }
+        if (!ALGORITHM.equals(algorithm)) {
+            throw invalid("Unsupported JWT algorithm " + algorithm);
+        }
+        return keyId;
+    }
+
+    private Principal parsePayload(byte[] json, int length) {
+        String subject = null;
+        String email = null;
+        String profileId = null;
+        String tokenId = null;
+        String type = null;
+        var expiresAt = Long.MIN_VALUE;
+        var notBefore = Long.MIN_VALUE;
+        try (var parser = JSON_FACTORY.createParser(json, 0, length)) {
+            expectObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var name = parser.currentName();
+                parser.nextToken();
+                switch (name) {
+                    case "sub" -> subject = stringValue(parser);
+                    case "email" -> email = stringValue(parser);
+                    case "pid" -> profileId = stringValue(parser);
+                    case "jti" -> tokenId = stringValue(parser);
+                    case "typ" -> type = stringValue(parser);
+                    case "exp" -> expiresAt = numericDate(parser);
+                    case "nbf" -> notBefore = numericDate(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw invalid("Malformed JWT payload");
+        }
+
+        var now = clock.getAsLong();
+        if (expiresAt != Long.MIN_VALUE && now > expiresAt * 1000) {
+            throw invalid("JWT expired");
+        }
+        if (notBefore != Long.MIN_VALUE && now < notBefore * 1000) {
+            throw invalid("JWT is not yet valid");
+        }
+        if (subject == null) {
+            throw invalid("JWT has no subject");
+        }
+        var authId = uuidClaim(subject, "sub");
+        var profile = profileId != null ? uuidClaim(profileId, "pid") : null;
+        var expiry = expiresAt != Long.MIN_VALUE ? Instant.ofEpochSecond(expiresAt) : Instant.EPOCH;
+        return new Principal(authId, email, profile, tokenId, expiry, TokenType.fromClaim(type, email));
+    }
+
+    private static UUID uuidClaim(String value, String name) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw invalid("JWT claim " + name + " is not a UUID");
+        }
+    }
+
+    private static void expectObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw invalid("JWT segment is not a JSON object");
+        }
+    }
+
+    private static String stringValue(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw invalid("JWT claim " + parser.currentName() + " must be a string");
+        }
+        return parser.getText();
+    }
+
+    private static long numericDate(JsonParser parser) throws IOException {
+        if (!parser.currentToken().isNumeric()) {
+            throw invalid("JWT claim " + parser.currentName() + " must be a number");
+        }
+        return parser.getValueAsLong();
+    }
+
+    /**
+     * The {@code jti} only has to be unique, not secret, since the token is signed; a random version 4 UUID
+     * from {@link ThreadLocalRandom} avoids contending on the shared {@code SecureRandom}.
+     */
+    private static String randomTokenId() {
+        var random = ThreadLocalRandom.current();
+        var mostSigBits = random.nextLong() & ~0xF000L | 0x4000L;
+        var leastSigBits = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    private static IllegalArgumentException invalid(String message) {
+        return new IllegalArgumentException(message);
+    }
+
+    /**
+     * Base64url-encoded headers for every key of one keyring snapshot, plus the header jjwt writes without a key id.
+     */
+    private record Headers(Set<String> source, String[] keyIds, String[] segments) {
+
+        static Headers of(Set<String> keyIds) {
+            var ids = new ArrayList<String>(keyIds.size() + 1);
+            var segments = new ArrayList<String>(keyIds.size() + 1);
+            for (var keyId : keyIds) {
+                ids.add(keyId);
+                segments.add(encodeHeader(keyId));
+            }
+            ids.add(null);
+            segments.add(encodeHeader(null));
+            return new Headers(keyIds, ids.toArray(String[]::new), segments.toArray(String[]::new));
+        }
+
+        String segment(String keyId) {
+            for (int i = 0; i < keyIds.length; i++) {
+                if (keyIds[i] != null && keyIds[i].equals(keyId)) {
+                    return segments[i];
+                }
+            }
+            return encodeHeader(keyId);
+        }
+
+        private static String encodeHeader(String keyId) {
+            var json = new StringBuilder("{");
+            if (keyId != null) {
+                json.append("\"kid\":\"");
+                JSON_STRING_ENCODER.quoteAsString(keyId, json);
+                json.append("\",");
+            }
+            json.append("\"alg\":\"").append(ALGORITHM).append("\"}");
+            var bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+            var segment = new StringBuilder();
+            Base64Url.encode(bytes, 0, bytes.length, segment);
+            return segment.toString();
+        }
+    }
+
+    private static final class Workspace {
+
+        private final Mac mac;
+        private SecretKey macKey;
+        private byte[] buffer = new byte[512];
+        private final byte[] expectedSignature = new byte[SIGNATURE_LENGTH];
+        private final byte[] actualSignature = new byte[SIGNATURE_LENGTH];
+        private final StringBuilder json = new StringBuilder(256);
+        private final StringBuilder text = new StringBuilder(512);
+
+        Workspace() {
+            try {
+                this.mac = Mac.getInstance(MAC_ALGORITHM);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        }
+
+        Mac mac(SecretKey key) {
+            if (key != macKey) {
+                try {
+                    mac.init(key);
+                } catch (GeneralSecurityException e) {
+                    macKey = null;
+                    throw invalid("JWT signing key is not usable for " + ALGORITHM);
+                }
+                macKey = key;
+            }
+            return mac;
+        }
+
+        void doFinal(Mac mac, byte[] output) {
+            try {
+                mac.doFinal(output, 0);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to compute JWT signature", e);
+            }
+        }
+
+        int decode(CharSequence src, int from, int to) {
+            ensureCapacity(Base64Url.decodedLength(to - from));
+            return Base64Url.decode(src, from, to, buffer);
+        }
+
+        int ascii(CharSequence src, int from, int to) {
+            ensureCapacity(to - from);
+            for (int i = from; i < to; i++) {
+                char c = src.charAt(i);
+                if (c > 0x7f) {
+                    throw invalid("Malformed JWT");
+                }
+                buffer[i - from] = (byte) c;
+            }
+            return to - from;
+        }
+
+        int utf8(CharSequence src) {
+            var length = src.length();
+            for (int i = 0; i < length; i++) {
+                if (src.charAt(i) > 0x7f) {
+                    var bytes = src.toString().getBytes(StandardCharsets.UTF_8);
+                    ensureCapacity(bytes.length);
+                    System.arraycopy(bytes, 0, buffer, 0, bytes.length);
+                    return bytes.length;
+                }
+            }
+            return ascii(src, 0, length);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (buffer.length < capacity) {
+                buffer = new byte[Math.max(capacity, buffer.length * 2)];
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.isharipov.acme.platform.common.security.token;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory set of revoked access token ids ({@code jti}). A Bloom filter answers the common "not revoked" case
+ * without touching the exact map; only filter hits are confirmed against it. Entries are kept until the token's
+ * {@code exp}, after which the filter is rebuilt without them.
+ */
+@Component
+public class TokenRevocationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationStore.class);
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private volatile BloomFilter filter;
+
+    public TokenRevocationStore(@Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+                                @Value("${jwt.revocation.false-positive-probability:0.01}") double falsePositiveProbability,
+                                MeterRegistry meterRegistry) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        Gauge.builder("jwt.revoked.tokens", revoked, Map::size).register(meterRegistry);
+    }
+
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            revoked.put(tokenId, expiresAt);
+            filter.put(tokenId);
+        } finally {
+            writeLock.unlock();
+        }
+        logger.debug("Revoked token jti={} until {}", tokenId, expiresAt);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        var expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    @Scheduled(initialDelayString = "${jwt.revocation.purge-interval:PT1M}",
+            fixedDelayString = "${jwt.revocation.purge-interval:PT1M}")
+    public void purgeExpired() {
+        var now = Instant.now();
+        writeLock.lock();
+        try {
+            if (!revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now))) {
+                return;
+            }
+            var rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2L), falsePositiveProbability);
+            revoked.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        } finally {
+            writeLock.unlock();
+        }
+        logger.debug("Purged expired revocations, {} remaining", revoked.size());
+    }
+}
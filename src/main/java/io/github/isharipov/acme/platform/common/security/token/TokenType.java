@@ -0,0 +1,39 @@
+package io.github.isharipov.acme.platform.common.security.token;
+
+/**
+ * Purpose of an issued token, carried in its {@code typ} claim so a refresh token is never accepted as a bearer
+ * token and the other way round.
+ */
+public enum TokenType {
+    ACCESS("access"),
+    REFRESH("refresh");
+
+    private final String claim;
+
+    TokenType(String claim) {
+        this.claim = claim;
+    }
+
+    public String claim() {
+        return claim;
+    }
+
+    /**
+     * Tokens issued before the {@code typ} claim are told apart the way they were issued: access tokens carry an
+     * {@code email} claim and refresh tokens do not.
+     *
+     * @return the type with the given claim value, the legacy type when the claim is absent, or {@code null} if the
+     * value is unknown
+     */
+    public static TokenType fromClaim(String claim, String email) {
+        if (claim == null) {
+            return email != null ? ACCESS : REFRESH;
+        }
+        for (var type : values()) {
+            if (type.claim.equals(claim)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.isharipov.acme.platform.common.security.token;
+
+import io.github.isharipov.acme.platform.common.dto.Principal;
+
+import java.time.Instant;
+
+public record VerifiedToken(Principal principal, Instant expiresAt) {
+}
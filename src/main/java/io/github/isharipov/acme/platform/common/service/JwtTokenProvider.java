@@ -1,18 +1,16 @@
 package io.github.isharipov.acme.platform.common.service;
 
+import io.github.isharipov.acme.platform.common.dto.Principal;
 import io.github.isharipov.acme.platform.common.dto.TokenOutboundDto;
 import io.github.isharipov.acme.platform.common.exception.JwtAuthenticationException;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.github.isharipov.acme.platform.common.security.key.JwtKeyring;
+import io.github.isharipov.acme.platform.common.security.token.HmacTokenCodec;
+import io.github.isharipov.acme.platform.common.security.token.TokenType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Date;
+import java.time.Duration;
 import java.util.UUID;
 
 @Service
@@ -20,50 +18,38 @@ public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private static final Duration ACCESS_TOKEN_TTL = Duration.ofMinutes(15);
+    private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(7);
 
-    public String generateAccessToken(String subject, String email) {
-        return Jwts.builder()
-                .id(UUID.randomUUID().toString())
-                .subject(subject)
-                .claim("email", email)
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 15))
-                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
-                .compact();
+    private final HmacTokenCodec tokenCodec;
+
+    public JwtTokenProvider(JwtKeyring jwtKeyring) {
+        this.tokenCodec = new HmacTokenCodec(jwtKeyring);
+    }
+
+    public String generateAccessToken(String subject, String email, UUID profileId) {
+        return tokenCodec.encode(TokenType.ACCESS, subject, email, profileId, ACCESS_TOKEN_TTL);
     }
 
-    public String generateRefreshToken(String subject, String email) {
-        return Jwts.builder()
-                .id(UUID.randomUUID().toString())
-                .subject(subject)
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24 * 7))
-                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
-                .compact();
+    public String generateRefreshToken(String subject, String email, UUID profileId) {
+        return tokenCodec.encode(TokenType.REFRESH, subject, email, profileId, REFRESH_TOKEN_TTL);
     }
 
-    public TokenOutboundDto generateTokens(String subject, String email) {
+    public TokenOutboundDto generateTokens(String subject, String email, UUID profileId) {
         logger.debug("Generating JWT tokens for subject={}, email={}", subject, email);
-        var accessToken = generateAccessToken(subject, email);
-        var refreshToken = generateRefreshToken(subject, email);
+        var accessToken = generateAccessToken(subject, email, profileId);
+        var refreshToken = generateRefreshToken(subject, email, profileId);
         return new TokenOutboundDto(accessToken, refreshToken);
     }
 
-    public Claims parseClaims(String token) {
+    public Principal parseToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            var principal = tokenCodec.decode(token);
             logger.debug("Successfully parsed claims from token");
-            return claims;
-        } catch (JwtException | IllegalArgumentException ex) {
+            return principal;
+        } catch (IllegalArgumentException ex) {
             logger.warn("Failed to parse JWT claims: {}", ex.getMessage());
             throw new JwtAuthenticationException("Invalid or expired JWT token", ex);
         }
     }
-
-}
\ No newline at end of file
+}
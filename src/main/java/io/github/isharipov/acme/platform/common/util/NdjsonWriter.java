@@ -0,0 +1,49 @@
+package io.github.isharipov.acme.platform.common.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes one JSON document per line straight to an output stream through a single {@link JsonGenerator}.
+ * Output is only flushed when the generator's buffer fills up or the writer is closed. The stream is not
+ * touched before the first document, so a failure up to that point can still be answered with an error response.
+ */
+public class NdjsonWriter implements Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final OutputStream outputStream;
+    private final ObjectWriter writer;
+    private JsonGenerator generator;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+        this.objectMapper = objectMapper;
+        this.outputStream = outputStream;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void write(Object value) {
+        try {
+            if (generator == null) {
+                generator = objectMapper.getFactory().createGenerator(outputStream);
+            }
+            writer.writeValue(generator, value);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            generator.close();
+        }
+    }
+}
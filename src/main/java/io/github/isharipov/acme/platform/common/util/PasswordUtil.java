@@ -0,0 +1,25 @@
+package io.github.isharipov.acme.platform.common.util;
+
+import java.util.regex.Pattern;
+
+public class PasswordUtil {
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./A-Za-z0-9]{53}$");
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+
+    /**
+     * Only hashes of the encoder this service configures count as encoded, so a raw password that merely looks like
+     * {@code {id}...} is still hashed.
+     */
+    public static boolean isEncoded(String password) {
+        return isBcryptHash(password);
+    }
+
+    public static boolean isBcryptHash(String password) {
+        if (password == null) {
+            return false;
+        }
+        var hash = password.startsWith(BCRYPT_PREFIX) ? password.substring(BCRYPT_PREFIX.length()) : password;
+        return BCRYPT_HASH.matcher(hash).matches();
+    }
+}
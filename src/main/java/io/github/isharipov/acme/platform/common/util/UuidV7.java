@@ -0,0 +1,36 @@
+package io.github.isharipov.acme.platform.common.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUID version 7 (RFC 9562): 48 bits of Unix epoch milliseconds, a 12-bit counter in {@code rand_a}
+ * and 62 random bits. Ids are strictly increasing within the JVM: the millisecond and counter are advanced together
+ * with a single CAS, so when the counter runs out inside one millisecond the timestamp moves ahead by one instead of
+ * waiting for the clock. Consecutive inserts therefore append to the right-hand edge of a btree primary key.
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        var now = System.currentTimeMillis() << COUNTER_BITS;
+        var next = lastTimestampAndCounter.updateAndGet(last -> Math.max(now, last + 1));
+        return of(next >>> COUNTER_BITS, next & ((1 << COUNTER_BITS) - 1), ThreadLocalRandom.current().nextLong());
+    }
+
+    static UUID of(long epochMillis, long counter, long random) {
+        var mostSignificantBits = (epochMillis << 16) | VERSION | counter;
+        var leastSignificantBits = VARIANT | (random & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
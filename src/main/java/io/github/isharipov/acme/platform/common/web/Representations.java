@@ -0,0 +1,49 @@
+package io.github.isharipov.acme.platform.common.web;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Media types the API can write, in the order Spring MVC prefers them, and the choice among them for an
+ * {@code Accept} header. Used where the representation has to be known outside of message conversion.
+ */
+public final class Representations {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private static final List<MediaType> SUPPORTED_MEDIA_TYPES = List.of(
+            MediaType.APPLICATION_JSON,
+            APPLICATION_SMILE,
+            MediaType.APPLICATION_CBOR);
+
+    private Representations() {
+    }
+
+    /**
+     * @return the supported media type with the highest quality in {@code accept}, JSON when none matches
+     */
+    public static MediaType negotiate(String accept) {
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (var acceptedType : accepted) {
+            if (acceptedType.getQualityValue() == 0) {
+                continue;
+            }
+            for (var supported : SUPPORTED_MEDIA_TYPES) {
+                if (acceptedType.includes(supported)) {
+                    return supported;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
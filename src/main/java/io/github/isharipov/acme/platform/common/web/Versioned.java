@@ -0,0 +1,36 @@
+package io.github.isharipov.acme.platform.common.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * A response body together with a strong entity tag computed from the rows it is built from, so that a matching
+ * {@code If-None-Match} is answered with 304 before the body is mapped and serialized. The tag is qualified with the
+ * negotiated representation and responses vary by {@code Accept}, since JSON, Smile and CBOR bodies differ.
+ */
+public record Versioned<T>(String eTag, Supplier<T> body) {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    public ResponseEntity<T> toResponseEntity(WebRequest request) {
+        var mediaType = Representations.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        var representationETag = eTag + "-" + mediaType.getSubtype();
+        if (request.checkNotModified(representationETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(representationETag)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(representationETag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(REVALIDATE)
+                .body(body.get());
+    }
+}
@@ -0,0 +1,242 @@
+package io.github.isharipov.acme.platform.common.web.idempotency;
+
+import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.github.isharipov.acme.platform.common.exception.ErrorResponseWriter;
+import io.github.isharipov.acme.platform.common.exception.model.ErrorType;
+import io.github.isharipov.acme.platform.common.util.HashUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Replays the stored response of a {@code POST} to one of {@code idempotency.paths} that carries an
+ * {@code Idempotency-Key} header instead of running it again. Request and response are buffered, so bodies above
+ * {@code idempotency.max-body-size} are rejected and streaming endpoints are not covered. Keys are scoped by caller
+ * (client address for anonymous calls), method and URI; reusing a key with a different body is rejected. A duplicate
+ * arriving while the first request is in flight waits for it. Server errors and throttled responses are not stored,
+ * so those requests can be retried with the same key.
+ * <p>
+ * Runs after the security filter chain, so replays are only served to authenticated callers where required.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotentResponseStore idempotentResponseStore;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final Set<String> paths;
+    private final long maxBodySize;
+    private final Duration waitTimeout;
+
+    public IdempotencyFilter(IdempotentResponseStore idempotentResponseStore,
+                             ErrorResponseWriter errorResponseWriter,
+                             @Value("${idempotency.paths:/auth/register,/api/projects/external}") Set<String> paths,
+                             @Value("${idempotency.max-body-size:1MB}") DataSize maxBodySize,
+                             @Value("${idempotency.wait-timeout:PT10S}") Duration waitTimeout) {
+        this.idempotentResponseStore = idempotentResponseStore;
+        this.errorResponseWriter = errorResponseWriter;
+        this.paths = paths;
+        this.maxBodySize = maxBodySize.toBytes();
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !StringUtils.hasText(request.getHeader(IDEMPOTENCY_KEY_HEADER))
+                || !paths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        var idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, ErrorType.VALIDATION_ERROR, IDEMPOTENCY_KEY_HEADER + " must not be longer than " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        var body = request.getContentLengthLong() > maxBodySize
+                ? null
+                : request.getInputStream().readNBytes(Math.toIntExact(maxBodySize + 1));
+        if (body == null || body.length > maxBodySize) {
+            writeError(request, response, ErrorType.PAYLOAD_TOO_LARGE, "Request body must not be larger than " + maxBodySize + " bytes");
+            return;
+        }
+        var bufferedRequest = new BufferedBodyRequest(request, body);
+        var fingerprint = HashUtil.sha256Base64(body);
+        var key = scopedKey(request, idempotencyKey);
+        var deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            var pending = new CompletableFuture<IdempotentResponse>();
+            var inFlight = idempotentResponseStore.claim(key, pending);
+            if (inFlight == null) {
+                execute(bufferedRequest, response, filterChain, fingerprint, pending);
+                return;
+            }
+            IdempotentResponse stored;
+            try {
+                stored = inFlight.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                writeError(request, response, ErrorType.IDEMPOTENT_REQUEST_IN_PROGRESS);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeError(request, response, ErrorType.IDEMPOTENT_REQUEST_IN_PROGRESS);
+                return;
+            } catch (ExecutionException e) {
+                stored = null;
+            }
+            if (stored == null) {
+                // the first attempt was not stored, so this one takes over the key
+                idempotentResponseStore.release(key, inFlight);
+                continue;
+            }
+            if (!stored.fingerprint().equals(fingerprint)) {
+                writeError(request, response, ErrorType.IDEMPOTENCY_KEY_REUSED);
+                return;
+            }
+            logger.debug("Replaying response for idempotent request [{} {}]", request.getMethod(), request.getRequestURI());
+            replay(stored, response);
+            return;
+        }
+    }
+
+    private void execute(HttpServletRequest request,
+                         HttpServletResponse response,
+                         FilterChain filterChain,
+                         String fingerprint,
+                         CompletableFuture<IdempotentResponse> pending) throws ServletException, IOException {
+        var responseWrapper = new ContentCachingResponseWrapper(response);
+        IdempotentResponse stored = null;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            if (isStorable(responseWrapper.getStatus())) {
+                stored = new IdempotentResponse(fingerprint,
+                        responseWrapper.getStatus(),
+                        responseWrapper.getContentType(),
+                        responseWrapper.getHeader(HttpHeaders.LOCATION),
+                        responseWrapper.getContentAsByteArray());
+            }
+        } finally {
+            pending.complete(stored);
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private static boolean isStorable(int status) {
+        return status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static void replay(IdempotentResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        response.setHeader(IDEMPOTENT_REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static String scopedKey(HttpServletRequest request, String idempotencyKey) {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        var caller = authentication != null && authentication.getPrincipal() instanceof Principal principal
+                ? principal.authId().toString()
+                : "anonymous@" + request.getRemoteAddr();
+        var query = request.getQueryString() != null ? "?" + request.getQueryString() : "";
+        return HashUtil.sha256Base64(caller + '\n' + request.getMethod() + ' ' + request.getRequestURI() + query + '\n' + idempotencyKey);
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, ErrorType errorType) throws IOException {
+        errorResponseWriter.write(request, response, errorType.getErrorResponse());
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, ErrorType errorType, String description) throws IOException {
+        errorResponseWriter.write(request, response, errorType.getErrorResponse(description));
+    }
+
+    private static class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            var charset = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(charset)));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.isharipov.acme.platform.common.web.idempotency;
+
+/**
+ * @param fingerprint SHA-256 digest of the request body the response was produced for
+ * @param status      HTTP status of the original response
+ * @param contentType content type of the original response, may be {@code null}
+ * @param location    {@code Location} header of the original response, may be {@code null}
+ * @param body        raw response body
+ */
+public record IdempotentResponse(String fingerprint, int status, String contentType, String location, byte[] body) {
+}
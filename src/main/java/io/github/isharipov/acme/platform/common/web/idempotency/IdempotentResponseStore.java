@@ -0,0 +1,52 @@
+package io.github.isharipov.acme.platform.common.web.idempotency;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Responses of requests sent with an {@code Idempotency-Key}, bounded by the total size of the stored bodies.
+ * Entries are futures, so a duplicate that arrives while the first request is still running can wait for its
+ * response. In-flight entries never expire; entries completed with {@code null} are dropped right away.
+ */
+@Component
+public class IdempotentResponseStore {
+
+    private static final String CACHE_NAME = "http.idempotent-responses";
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final AsyncCache<String, IdempotentResponse> cache;
+
+    public IdempotentResponseStore(@Value("${idempotency.maximum-size:64MB}") DataSize maximumSize,
+                                   @Value("${idempotency.ttl:PT1H}") Duration ttl,
+                                   MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((String key, IdempotentResponse response) -> ENTRY_OVERHEAD_BYTES + key.length() + response.body().length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Registers {@code pending} under {@code key} unless another request already did.
+     *
+     * @return {@code null} if the caller now owns the key and must complete {@code pending}, otherwise the future
+     * of the request that owns it
+     */
+    public CompletableFuture<IdempotentResponse> claim(String key, CompletableFuture<IdempotentResponse> pending) {
+        return cache.asMap().putIfAbsent(key, pending);
+    }
+
+    public void release(String key, CompletableFuture<IdempotentResponse> pending) {
+        cache.asMap().remove(key, pending);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.isharipov.acme.platform.common.web.reactive;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+
+/**
+ * Reactor Netty server for the non-blocking read routes. The application itself stays a servlet application, so
+ * these routes are served on their own port by a handful of event-loop threads rather than by the servlet container.
+ */
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveReadServer.class);
+
+    private final WebServer webServer;
+    private volatile boolean running;
+
+    public ReactiveReadServer(int port, RouterFunction<ServerResponse> routes, HandlerStrategies handlerStrategies,
+                              ObservationRegistry observationRegistry) {
+        var httpHandler = WebHttpHandlerBuilder.webHandler(RouterFunctions.toWebHandler(routes, handlerStrategies))
+                .observationRegistry(observationRegistry)
+                .build();
+        this.webServer = new NettyReactiveWebServerFactory(port).getWebServer(httpHandler);
+    }
+
+    @Override
+    public void start() {
+        webServer.start();
+        running = true;
+        logger.info("Reactive read API started on port {}", webServer.getPort());
+    }
+
+    @Override
+    public void stop() {
+        webServer.stop();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getPort() {
+        return webServer.getPort();
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.isharipov.acme.platform.project.external.model;
+
+import io.github.isharipov.acme.platform.common.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position after the last row of a slice ordered by {@code (created_at, id)}, serialised as an opaque
+ * base64url token.
+ */
+public record ExternalProjectCursor(Instant createdAt, UUID id) {
+
+    private static final int LENGTH = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    public static ExternalProjectCursor after(ExternalProjectProjection project) {
+        return new ExternalProjectCursor(project.getCreatedAt(), project.getId());
+    }
+
+    public static ExternalProjectCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        if (bytes.length != LENGTH) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        var buffer = ByteBuffer.wrap(bytes);
+        var seconds = buffer.getLong();
+        var nanos = buffer.getInt();
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        return new ExternalProjectCursor(Instant.ofEpochSecond(seconds, nanos), new UUID(buffer.getLong(), buffer.getLong()));
+    }
+
+    public String encode() {
+        var buffer = ByteBuffer.allocate(LENGTH)
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
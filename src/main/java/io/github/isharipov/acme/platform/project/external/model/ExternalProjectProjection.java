@@ -1,5 +1,6 @@
 package io.github.isharipov.acme.platform.project.external.model;
 
+import java.time.Instant;
 import java.util.UUID;
 
 public interface ExternalProjectProjection {
@@ -10,4 +11,8 @@ public interface ExternalProjectProjection {
     String getName();
 
     UUID getUserId();
+
+    Instant getCreatedAt();
+
+    Instant getUpdatedAt();
 }
\ No newline at end of file
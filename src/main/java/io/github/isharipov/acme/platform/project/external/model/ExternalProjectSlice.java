@@ -0,0 +1,34 @@
+package io.github.isharipov.acme.platform.project.external.model;
+
+import io.github.isharipov.acme.platform.common.dto.CursorPageOutboundDto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Turns rows read with a one-row look-ahead into a cursor page, shared by the blocking and the reactive listing
+ * so both hand out the same {@link ExternalProjectCursor} tokens.
+ */
+public final class ExternalProjectSlice {
+
+    private ExternalProjectSlice() {
+    }
+
+    /**
+     * @return the number of rows to read for a slice of {@code size}, one more to learn whether a next slice exists
+     */
+    public static int limit(int size) {
+        return size + 1;
+    }
+
+    public static <T> CursorPageOutboundDto<T> of(List<? extends ExternalProjectProjection> rows, int size,
+                                                  Function<? super ExternalProjectProjection, T> mapper) {
+        var hasNext = rows.size() > size;
+        var slice = hasNext ? rows.subList(0, size) : rows;
+        var nextCursor = hasNext ? ExternalProjectCursor.after(slice.get(size - 1)).encode() : null;
+        var content = slice.stream()
+                .<T>map(mapper)
+                .toList();
+        return new CursorPageOutboundDto<>(content, nextCursor);
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.isharipov.acme.platform.project.external.model;
 
+import io.github.isharipov.acme.platform.common.model.AssignableUuid;
 import io.github.isharipov.acme.platform.common.model.Auditable;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -11,7 +12,7 @@ import java.util.UUID;
 public class UserExternalProject extends Auditable {
 
     @Id
-    @GeneratedValue
+    @AssignableUuid
     private UUID id;
 
     @NotBlank
@@ -0,0 +1,190 @@
+package io.github.isharipov.acme.platform.project.external.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based writes for batch project ingest. Lookups use one {@code IN} query per chunk. On PostgreSQL each chunk
+ * is written by one {@code INSERT ... ON CONFLICT (external_id) ... RETURNING} over unnested arrays, which reports
+ * the stored id of every written row and whether it was inserted. Other databases get JDBC batches of the
+ * equivalent {@code MERGE}. Either way a concurrent insert of the same external id never fails the batch.
+ */
+@Repository
+public class ExternalProjectBatchRepository {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private static final String SELECT_ACTIVE_PROFILE_IDS =
+            "SELECT id FROM user_profiles WHERE deleted = false AND id IN (:ids)";
+    private static final String SELECT_EXISTING_PROJECTS =
+            "SELECT id, external_id FROM user_external_projects WHERE external_id IN (:externalIds)";
+
+    private static final String INSERT_PROJECTS = """
+            INSERT INTO user_external_projects (id, external_id, name, user_id, created_at)
+            SELECT p.id, p.external_id, p.name, p.user_id, ?
+            FROM unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::uuid[]) AS p (id, external_id, name, user_id)
+            """;
+    private static final String ON_CONFLICT_SKIP = "ON CONFLICT (external_id) DO NOTHING\n";
+    private static final String ON_CONFLICT_UPDATE = """
+            ON CONFLICT (external_id) DO UPDATE SET
+                name = COALESCE(EXCLUDED.name, user_external_projects.name),
+                user_id = COALESCE(EXCLUDED.user_id, user_external_projects.user_id),
+                updated_at = EXCLUDED.created_at
+            """;
+    private static final String RETURNING_ID = "RETURNING id, external_id, (xmax = 0) AS inserted";
+
+    private static final String MERGE_PROJECT = """
+            MERGE INTO user_external_projects t
+            USING (VALUES (CAST(? AS UUID), CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(255)), CAST(? AS UUID), CAST(? AS TIMESTAMP)))
+                AS s (id, external_id, name, user_id, created_at)
+            ON t.external_id = s.external_id
+            WHEN NOT MATCHED THEN
+                INSERT (id, external_id, name, user_id, created_at) VALUES (s.id, s.external_id, s.name, s.user_id, s.created_at)
+            """;
+    private static final String WHEN_MATCHED_UPDATE = """
+            WHEN MATCHED THEN
+                UPDATE SET name = COALESCE(s.name, t.name), user_id = COALESCE(s.user_id, t.user_id), updated_at = s.created_at
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+    private final String skipStatement;
+    private final String updateStatement;
+
+    public ExternalProjectBatchRepository(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource) throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        this.postgres = "PostgreSQL".equals(product);
+        if (postgres) {
+            this.skipStatement = INSERT_PROJECTS + ON_CONFLICT_SKIP + RETURNING_ID;
+            this.updateStatement = INSERT_PROJECTS + ON_CONFLICT_UPDATE + RETURNING_ID;
+        } else {
+            this.skipStatement = MERGE_PROJECT;
+            this.updateStatement = MERGE_PROJECT + WHEN_MATCHED_UPDATE;
+        }
+    }
+
+    public Set<UUID> findActiveProfileIds(Collection<UUID> ids) {
+        var found = new HashSet<UUID>();
+        for (var chunk : chunks(ids)) {
+            var parameters = new MapSqlParameterSource("ids", chunk);
+            found.addAll(jdbcTemplate.queryForList(SELECT_ACTIVE_PROFILE_IDS, parameters, UUID.class));
+        }
+        return found;
+    }
+
+    /**
+     * @return ids of the projects that already exist, keyed by external id
+     */
+    public Map<String, UUID> findExistingProjects(Collection<String> externalIds) {
+        var found = new HashMap<String, UUID>();
+        for (var chunk : chunks(externalIds)) {
+            var parameters = new MapSqlParameterSource("externalIds", chunk);
+            jdbcTemplate.query(SELECT_EXISTING_PROJECTS, parameters, rs -> {
+                found.put(rs.getString("external_id"), rs.getObject("id", UUID.class));
+            });
+        }
+        return found;
+    }
+
+    /**
+     * Writes every project, either leaving existing rows untouched or updating their non-null columns. The id of a
+     * project is only used when it is inserted, so callers should pass a fresh one.
+     *
+     * @return the stored id of every written project and whether it was inserted, keyed by external id; skipped
+     * projects are absent
+     */
+    public Map<String, UpsertedProject> upsertAll(List<NewProject> projects, boolean updateExisting, Instant now) {
+        var written = new HashMap<String, UpsertedProject>();
+        if (projects.isEmpty()) {
+            return written;
+        }
+        var timestamp = Timestamp.from(now);
+        var sql = updateExisting ? updateStatement : skipStatement;
+        if (postgres) {
+            for (var chunk : chunks(projects)) {
+                upsertReturning(sql, chunk, timestamp, written);
+            }
+            return written;
+        }
+        var batches = jdbcTemplate.getJdbcTemplate().batchUpdate(sql, projects, CHUNK_SIZE, (ps, project) -> {
+            ps.setObject(1, project.id());
+            ps.setString(2, project.externalId());
+            ps.setString(3, project.name());
+            ps.setObject(4, project.userId());
+            ps.setTimestamp(5, timestamp);
+        });
+        var position = 0;
+        for (var batch : batches) {
+            for (var count : batch) {
+                var project = projects.get(position++);
+                if (count != 0) {
+                    written.put(project.externalId(), new UpsertedProject(project.id(), true));
+                }
+            }
+        }
+        if (updateExisting) {
+            // MERGE reports 1 for an insert and an update alike, so the stored id tells them apart
+            var stored = findExistingProjects(written.keySet());
+            for (var project : projects) {
+                var id = stored.get(project.externalId());
+                if (id != null) {
+                    written.put(project.externalId(), new UpsertedProject(id, id.equals(project.id())));
+                }
+            }
+        }
+        return written;
+    }
+
+    private void upsertReturning(String sql, List<NewProject> chunk, Timestamp timestamp, Map<String, UpsertedProject> written) {
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            var ps = connection.prepareStatement(sql);
+            ps.setTimestamp(1, timestamp);
+            ps.setArray(2, connection.createArrayOf("uuid", chunk.stream().map(NewProject::id).toArray()));
+            ps.setArray(3, connection.createArrayOf("varchar", chunk.stream().map(NewProject::externalId).toArray()));
+            ps.setArray(4, connection.createArrayOf("varchar", chunk.stream().map(NewProject::name).toArray()));
+            ps.setArray(5, connection.createArrayOf("uuid", chunk.stream().map(NewProject::userId).toArray()));
+            return ps;
+        }, rs -> {
+            written.put(rs.getString("external_id"), new UpsertedProject(rs.getObject("id", UUID.class), rs.getBoolean("inserted")));
+        });
+    }
+
+    private static <T> List<List<T>> chunks(Collection<T> values) {
+        var chunks = new ArrayList<List<T>>();
+        var current = new ArrayList<T>(Math.min(values.size(), CHUNK_SIZE));
+        for (var value : values) {
+            current.add(value);
+            if (current.size() == CHUNK_SIZE) {
+                chunks.add(current);
+                current = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    public record NewProject(UUID id, String externalId, String name, UUID userId) {
+    }
+
+    public record UpsertedProject(UUID id, boolean inserted) {
+    }
+}
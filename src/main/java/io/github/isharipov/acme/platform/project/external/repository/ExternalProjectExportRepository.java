@@ -0,0 +1,53 @@
+package io.github.isharipov.acme.platform.project.external.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * Streams external projects with a forward-only cursor. On PostgreSQL rows are only fetched in batches inside
+ * a transaction, so callers should run the {@code forEach} methods in one.
+ */
+@Repository
+public class ExternalProjectExportRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final String SELECT_PROJECTS = "SELECT id, user_id, external_id, name FROM user_external_projects";
+    private static final String SELECT_USER_PROJECTS = SELECT_PROJECTS + " WHERE user_id = ? ORDER BY created_at, id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExternalProjectExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    public void forEachProject(ProjectConsumer consumer) {
+        jdbcTemplate.query(SELECT_PROJECTS, rs -> {
+            consumer.accept(
+                    rs.getObject("id", UUID.class),
+                    rs.getObject("user_id", UUID.class),
+                    rs.getString("external_id"),
+                    rs.getString("name"));
+        });
+    }
+
+    public void forEachProject(UUID userId, ProjectConsumer consumer) {
+        jdbcTemplate.query(SELECT_USER_PROJECTS, rs -> {
+            consumer.accept(
+                    rs.getObject("id", UUID.class),
+                    rs.getObject("user_id", UUID.class),
+                    rs.getString("external_id"),
+                    rs.getString("name"));
+        }, userId);
+    }
+
+    @FunctionalInterface
+    public interface ProjectConsumer {
+
+        void accept(UUID id, UUID userId, String externalId, String name);
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.isharipov.acme.platform.project.external.repository;
+
+import io.github.isharipov.acme.platform.project.external.model.ExternalProjectProjection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of the keyset slices of {@link UserExternalProjectRepository}, used by the reactive
+ * read API. Timestamp columns hold UTC wall-clock time, as written by Hibernate.
+ */
+@Repository
+public class ReactiveExternalProjectRepository {
+
+    private static final String SELECT_PROJECTS = "SELECT id, external_id, name, user_id, created_at, updated_at FROM user_external_projects";
+    private static final String SELECT_FIRST_SLICE = SELECT_PROJECTS
+            + " WHERE user_id = :userId ORDER BY created_at, id LIMIT :limit";
+    private static final String SELECT_SLICE_AFTER = SELECT_PROJECTS
+            + " WHERE user_id = :userId AND (created_at, id) > (:createdAt, :id) ORDER BY created_at, id LIMIT :limit";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveExternalProjectRepository(ConnectionFactory connectionFactory) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    public Flux<ExternalProjectProjection> findFirstSliceByUserId(UUID userId, int limit) {
+        return databaseClient.sql(SELECT_FIRST_SLICE)
+                .bind("userId", userId)
+                .bind("limit", limit)
+                .map(ReactiveExternalProjectRepository::toProjection)
+                .all();
+    }
+
+    public Flux<ExternalProjectProjection> findSliceByUserIdAfter(UUID userId, Instant createdAt, UUID id, int limit) {
+        return databaseClient.sql(SELECT_SLICE_AFTER)
+                .bind("userId", userId)
+                .bind("createdAt", LocalDateTime.ofInstant(createdAt, ZoneOffset.UTC))
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(ReactiveExternalProjectRepository::toProjection)
+                .all();
+    }
+
+    private static ExternalProjectProjection toProjection(Readable row) {
+        return new ProjectRow(
+                row.get("id", UUID.class),
+                row.get("external_id", String.class),
+                row.get("name", String.class),
+                row.get("user_id", UUID.class),
+                toInstant(row.get("created_at", LocalDateTime.class)),
+                toInstant(row.get("updated_at", LocalDateTime.class)));
+    }
+
+    private static Instant toInstant(LocalDateTime utc) {
+        return utc != null ? utc.toInstant(ZoneOffset.UTC) : null;
+    }
+
+    private record ProjectRow(UUID id, String externalId, String name, UUID userId, Instant createdAt,
+                              Instant updatedAt) implements ExternalProjectProjection {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getExternalId() {
+            return externalId;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public UUID getUserId() {
+            return userId;
+        }
+
+        @Override
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public Instant getUpdatedAt() {
+            return updatedAt;
+        }
+    }
+}
@@ -2,15 +2,45 @@ package io.github.isharipov.acme.platform.project.external.repository;
 
 import io.github.isharipov.acme.platform.project.external.model.ExternalProjectProjection;
 import io.github.isharipov.acme.platform.project.external.model.UserExternalProject;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface UserExternalProjectRepository extends JpaRepository<UserExternalProject, UUID> {
     Page<ExternalProjectProjection> findAllByUserId(UUID userId, Pageable pageable);
+
+    @Query("""
+            select p.id as id, p.externalId as externalId, p.name as name, p.userId as userId, p.createdAt as createdAt,
+                   p.updatedAt as updatedAt
+            from UserExternalProject p
+            where p.userId = :userId
+            order by p.createdAt, p.id
+            """)
+    List<ExternalProjectProjection> findFirstSliceByUserId(@Param("userId") UUID userId, Limit limit);
+
+    /**
+     * Keyset continuation after {@code (createdAt, id)}; served by the {@code (user_id, created_at, id)} index
+     * at the same cost for every slice.
+     */
+    @Query("""
+            select p.id as id, p.externalId as externalId, p.name as name, p.userId as userId, p.createdAt as createdAt,
+                   p.updatedAt as updatedAt
+            from UserExternalProject p
+            where p.userId = :userId and (p.createdAt, p.id) > (:createdAt, :id)
+            order by p.createdAt, p.id
+            """)
+    List<ExternalProjectProjection> findSliceByUserIdAfter(@Param("userId") UUID userId,
+                                                          @Param("createdAt") Instant createdAt,
+                                                          @Param("id") UUID id,
+                                                          Limit limit);
     boolean existsByExternalId(String externalId);
 }
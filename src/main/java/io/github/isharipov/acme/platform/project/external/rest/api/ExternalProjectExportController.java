@@ -0,0 +1,33 @@
+package io.github.isharipov.acme.platform.project.external.rest.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.isharipov.acme.platform.common.util.NdjsonWriter;
+import io.github.isharipov.acme.platform.project.external.service.ExternalProjectExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/admin/projects")
+public class ExternalProjectExportController {
+
+    private final ExternalProjectExportService externalProjectExportService;
+    private final ObjectMapper objectMapper;
+
+    public ExternalProjectExportController(ExternalProjectExportService externalProjectExportService, ObjectMapper objectMapper) {
+        this.externalProjectExportService = externalProjectExportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportAllProjects(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (var writer = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+            externalProjectExportService.exportAllProjects(writer::write);
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package io.github.isharipov.acme.platform.project.external.rest.api;
 
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectBatchResultOutboundDto;
 import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectInboundDto;
 import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectOutboundDto;
 import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectUpdateInboundDto;
+import io.github.isharipov.acme.platform.project.external.service.ExternalProjectBatchService;
+import io.github.isharipov.acme.platform.project.external.service.ExternalProjectBatchService.ConflictMode;
 import io.github.isharipov.acme.platform.project.external.service.UserExternalProjectService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @Validated
@@ -17,10 +23,14 @@ import java.util.UUID;
 @RequestMapping("/api/projects/external")
 public class UserExternalProjectController {
 
+    private static final int MAX_BATCH_SIZE = 10_000;
+
     private final UserExternalProjectService userExternalProjectService;
+    private final ExternalProjectBatchService externalProjectBatchService;
 
-    public UserExternalProjectController(UserExternalProjectService userExternalProjectService) {
+    public UserExternalProjectController(UserExternalProjectService userExternalProjectService, ExternalProjectBatchService externalProjectBatchService) {
         this.userExternalProjectService = userExternalProjectService;
+        this.externalProjectBatchService = externalProjectBatchService;
     }
 
     @PostMapping
@@ -28,6 +38,17 @@ public class UserExternalProjectController {
         return ResponseEntity.status(HttpStatus.CREATED).body(userExternalProjectService.createExternalProject(externalProject));
     }
 
+    /**
+     * Creates up to {@value #MAX_BATCH_SIZE} projects at once. Items are validated one by one, so the response
+     * lists an outcome for every item instead of rejecting the whole batch.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ExternalProjectBatchResultOutboundDto>> upsertExternalProjects(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<ExternalProjectInboundDto> externalProjects,
+            @RequestParam(defaultValue = "SKIP") ConflictMode onConflict) {
+        return ResponseEntity.ok(externalProjectBatchService.upsertProjects(externalProjects, onConflict));
+    }
+
     @PutMapping("/{externalProjectId}")
     public ResponseEntity<ExternalProjectOutboundDto> updateExternalProject(@PathVariable UUID externalProjectId,
                                                                             @Valid @RequestBody ExternalProjectUpdateInboundDto externalProject) {
@@ -0,0 +1,21 @@
+package io.github.isharipov.acme.platform.project.external.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ExternalProjectBatchResultOutboundDto(int index,
+                                                    String externalId,
+                                                    UUID id,
+                                                    Status status,
+                                                    String message) {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        SKIPPED,
+        DUPLICATE,
+        INVALID
+    }
+}
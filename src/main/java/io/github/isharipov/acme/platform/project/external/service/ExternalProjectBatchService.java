@@ -0,0 +1,19 @@
+package io.github.isharipov.acme.platform.project.external.service;
+
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectBatchResultOutboundDto;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectInboundDto;
+
+import java.util.List;
+
+public interface ExternalProjectBatchService {
+
+    /**
+     * Creates the projects in one transaction and reports one outcome per input item, in input order.
+     */
+    List<ExternalProjectBatchResultOutboundDto> upsertProjects(List<ExternalProjectInboundDto> projects, ConflictMode onConflict);
+
+    enum ConflictMode {
+        SKIP,
+        UPDATE
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.isharipov.acme.platform.project.external.service;
+
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectOutboundDto;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface ExternalProjectExportService {
+
+    /**
+     * Passes every project of the user to {@code sink} in creation order, one row at a time.
+     */
+    void exportUserProjects(UUID userId, Consumer<ExternalProjectOutboundDto> sink);
+
+    void exportOwnProjects(UUID userId, Consumer<ExternalProjectOutboundDto> sink);
+
+    void exportAllProjects(Consumer<ExternalProjectOutboundDto> sink);
+}
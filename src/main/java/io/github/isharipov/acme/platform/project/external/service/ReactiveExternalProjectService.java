@@ -0,0 +1,17 @@
+package io.github.isharipov.acme.platform.project.external.service;
+
+import io.github.isharipov.acme.platform.common.dto.CursorPageOutboundDto;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectOutboundDto;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking keyset listing of {@link UserExternalProjectService}; cursors are interchangeable between the two.
+ */
+public interface ReactiveExternalProjectService {
+
+    Mono<CursorPageOutboundDto<ExternalProjectOutboundDto>> getUserProjects(UUID userId, String cursor, int size);
+
+    Mono<CursorPageOutboundDto<ExternalProjectOutboundDto>> getOwnProjects(UUID userId, String cursor, int size);
+}
@@ -1,5 +1,7 @@
 package io.github.isharipov.acme.platform.project.external.service;
 
+import io.github.isharipov.acme.platform.common.dto.CursorPageOutboundDto;
+import io.github.isharipov.acme.platform.common.web.Versioned;
 import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectInboundDto;
 import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectOutboundDto;
 import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectUpdateInboundDto;
@@ -13,5 +15,22 @@ public interface UserExternalProjectService {
 
     ExternalProjectOutboundDto updateExternalProject(UUID externalProjectId, ExternalProjectUpdateInboundDto externalProjectRequest);
 
-    Page<ExternalProjectOutboundDto> getUserProjects(UUID userId, Pageable pageable);
+    /**
+     * The entity tag of a listing is derived from the ids on it, their latest {@code updated_at} and, for pages,
+     * the total count; the rows are mapped only when the body is requested.
+     */
+    Versioned<Page<ExternalProjectOutboundDto>> getUserProjects(UUID userId, Pageable pageable);
+
+    /**
+     * Same as {@link #getUserProjects} but without checking that the profile exists, for ids taken from the
+     * caller's own token.
+     */
+    Versioned<Page<ExternalProjectOutboundDto>> getOwnProjects(UUID userId, Pageable pageable);
+
+    /**
+     * Keyset-paginated listing ordered by creation time; {@code cursor} is {@code null} or blank for the first slice.
+     */
+    Versioned<CursorPageOutboundDto<ExternalProjectOutboundDto>> getUserProjects(UUID userId, String cursor, int size);
+
+    Versioned<CursorPageOutboundDto<ExternalProjectOutboundDto>> getOwnProjects(UUID userId, String cursor, int size);
 }
@@ -0,0 +1,134 @@
+package io.github.isharipov.acme.platform.project.external.service.impl;
+
+import io.github.isharipov.acme.platform.common.util.UuidV7;
+import io.github.isharipov.acme.platform.project.external.repository.ExternalProjectBatchRepository;
+import io.github.isharipov.acme.platform.project.external.repository.ExternalProjectBatchRepository.NewProject;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectBatchResultOutboundDto;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectBatchResultOutboundDto.Status;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectInboundDto;
+import io.github.isharipov.acme.platform.project.external.service.ExternalProjectBatchService;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Ingests a batch of projects with a fixed number of statements per thousand items: one {@code IN} query for the
+ * referenced profiles, one for the already known external ids when they are skipped, and the upsert itself.
+ * Created and updated rows are reported with the id the database actually stored.
+ */
+@Service
+public class ExternalProjectBatchServiceImpl implements ExternalProjectBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExternalProjectBatchServiceImpl.class);
+
+    private final ExternalProjectBatchRepository externalProjectBatchRepository;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExternalProjectBatchServiceImpl(ExternalProjectBatchRepository externalProjectBatchRepository,
+                                           Validator validator,
+                                           TransactionTemplate transactionTemplate) {
+        this.externalProjectBatchRepository = externalProjectBatchRepository;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public List<ExternalProjectBatchResultOutboundDto> upsertProjects(List<ExternalProjectInboundDto> projects, ConflictMode onConflict) {
+        logger.info("Ingesting batch of {} external projects, onConflict={}", projects.size(), onConflict);
+        var results = new ExternalProjectBatchResultOutboundDto[projects.size()];
+        var candidates = new ArrayList<Integer>(projects.size());
+        var externalIds = new HashSet<String>();
+        for (int i = 0; i < projects.size(); i++) {
+            var project = projects.get(i);
+            var violation = validate(project);
+            if (violation != null) {
+                results[i] = result(i, project, null, Status.INVALID, violation);
+            } else if (!externalIds.add(project.externalId())) {
+                results[i] = result(i, project, null, Status.DUPLICATE, "External id appears earlier in the batch");
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> upsert(projects, candidates, onConflict, results));
+
+        var outcome = Arrays.stream(results).collect(Collectors.groupingBy(ExternalProjectBatchResultOutboundDto::status, Collectors.counting()));
+        logger.info("Ingested batch of external projects: {}", outcome);
+        return Arrays.asList(results);
+    }
+
+    private void upsert(List<ExternalProjectInboundDto> projects, List<Integer> candidates, ConflictMode onConflict,
+                        ExternalProjectBatchResultOutboundDto[] results) {
+        var userIds = candidates.stream()
+                .map(i -> projects.get(i).userId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        var activeUserIds = externalProjectBatchRepository.findActiveProfileIds(userIds);
+
+        var writable = new ArrayList<Integer>(candidates.size());
+        for (var i : candidates) {
+            var project = projects.get(i);
+            if (project.userId() != null && !activeUserIds.contains(project.userId())) {
+                results[i] = result(i, project, null, Status.INVALID, "User Profile not found");
+            } else {
+                writable.add(i);
+            }
+        }
+
+        var existing = onConflict == ConflictMode.SKIP
+                ? externalProjectBatchRepository.findExistingProjects(writable.stream().map(i -> projects.get(i).externalId()).toList())
+                : Map.<String, UUID>of();
+        var rows = new ArrayList<NewProject>(writable.size());
+        for (var i : writable) {
+            var project = projects.get(i);
+            rows.add(new NewProject(UuidV7.generate(), project.externalId(), project.name(), project.userId()));
+        }
+        var written = externalProjectBatchRepository.upsertAll(rows, onConflict == ConflictMode.UPDATE, Instant.now());
+
+        for (var i : writable) {
+            var project = projects.get(i);
+            var upserted = written.get(project.externalId());
+            if (upserted == null) {
+                var id = existing.get(project.externalId());
+                results[i] = id != null
+                        ? result(i, project, id, Status.SKIPPED, null)
+                        : result(i, project, null, Status.SKIPPED, "Created concurrently by another request");
+            } else {
+                results[i] = result(i, project, upserted.id(), upserted.inserted() ? Status.CREATED : Status.UPDATED, null);
+            }
+        }
+    }
+
+    private String validate(ExternalProjectInboundDto project) {
+        if (project == null) {
+            return "Project must not be null";
+        }
+        var violations = validator.validate(project);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static ExternalProjectBatchResultOutboundDto result(int index, ExternalProjectInboundDto project, UUID id,
+                                                                Status status, String message) {
+        var externalId = project != null ? project.externalId() : null;
+        return new ExternalProjectBatchResultOutboundDto(index, externalId, id, status, message);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.isharipov.acme.platform.project.external.service.impl;
+
+import io.github.isharipov.acme.platform.project.external.repository.ExternalProjectExportRepository;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectOutboundDto;
+import io.github.isharipov.acme.platform.project.external.service.ExternalProjectExportService;
+import io.github.isharipov.acme.platform.user.service.UserProfileService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Service
+public class ExternalProjectExportServiceImpl implements ExternalProjectExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExternalProjectExportServiceImpl.class);
+
+    private final ExternalProjectExportRepository externalProjectExportRepository;
+    private final UserProfileService userProfileService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExternalProjectExportServiceImpl(ExternalProjectExportRepository externalProjectExportRepository,
+                                            UserProfileService userProfileService,
+                                            PlatformTransactionManager transactionManager) {
+        this.externalProjectExportRepository = externalProjectExportRepository;
+        this.userProfileService = userProfileService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void exportUserProjects(UUID userId, Consumer<ExternalProjectOutboundDto> sink) {
+        userProfileService.getUserById(userId);
+        exportOwnProjects(userId, sink);
+    }
+
+    @Override
+    public void exportOwnProjects(UUID userId, Consumer<ExternalProjectOutboundDto> sink) {
+        logger.info("Exporting external projects for userId={}", userId);
+        transactionTemplate.executeWithoutResult(status ->
+                externalProjectExportRepository.forEachProject(userId, (id, owner, externalId, name) ->
+                        sink.accept(new ExternalProjectOutboundDto(id, owner, externalId, name))));
+    }
+
+    @Override
+    public void exportAllProjects(Consumer<ExternalProjectOutboundDto> sink) {
+        logger.info("Exporting external projects for all users");
+        transactionTemplate.executeWithoutResult(status ->
+                externalProjectExportRepository.forEachProject((id, owner, externalId, name) ->
+                        sink.accept(new ExternalProjectOutboundDto(id, owner, externalId, name))));
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.isharipov.acme.platform.project.external.service.impl;
+
+import io.github.isharipov.acme.platform.common.dto.CursorPageOutboundDto;
+import io.github.isharipov.acme.platform.project.external.infrastructure.mapper.UserExternalProjectMapper;
+import io.github.isharipov.acme.platform.project.external.model.ExternalProjectCursor;
+import io.github.isharipov.acme.platform.project.external.model.ExternalProjectProjection;
+import io.github.isharipov.acme.platform.project.external.model.ExternalProjectSlice;
+import io.github.isharipov.acme.platform.project.external.repository.ReactiveExternalProjectRepository;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectOutboundDto;
+import io.github.isharipov.acme.platform.project.external.service.ReactiveExternalProjectService;
+import io.github.isharipov.acme.platform.user.service.ReactiveUserProfileService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+public class ReactiveExternalProjectServiceImpl implements ReactiveExternalProjectService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveExternalProjectServiceImpl.class);
+
+    private final ReactiveExternalProjectRepository reactiveExternalProjectRepository;
+    private final ReactiveUserProfileService reactiveUserProfileService;
+    private final UserExternalProjectMapper userExternalProjectMapper;
+
+    public ReactiveExternalProjectServiceImpl(ReactiveExternalProjectRepository reactiveExternalProjectRepository,
+                                              ReactiveUserProfileService reactiveUserProfileService,
+                                              UserExternalProjectMapper userExternalProjectMapper) {
+        this.reactiveExternalProjectRepository = reactiveExternalProjectRepository;
+        this.reactiveUserProfileService = reactiveUserProfileService;
+        this.userExternalProjectMapper = userExternalProjectMapper;
+    }
+
+    @Override
+    public Mono<CursorPageOutboundDto<ExternalProjectOutboundDto>> getUserProjects(UUID userId, String cursor, int size) {
+        logger.info("Fetching external projects for userId={} by cursor", userId);
+        return reactiveUserProfileService.getUserById(userId)
+                .then(findSlice(userId, cursor, size));
+    }
+
+    @Override
+    public Mono<CursorPageOutboundDto<ExternalProjectOutboundDto>> getOwnProjects(UUID userId, String cursor, int size) {
+        logger.info("Fetching own external projects for userId={} by cursor", userId);
+        return findSlice(userId, cursor, size);
+    }
+
+    /**
+     * Same size + 1 look-ahead as the blocking listing; the cursor is decoded lazily so a malformed one surfaces
+     * as an error signal rather than a throw at assembly time.
+     */
+    private Mono<CursorPageOutboundDto<ExternalProjectOutboundDto>> findSlice(UUID userId, String cursor, int size) {
+        var limit = ExternalProjectSlice.limit(size);
+        return Flux.defer(() -> cursor == null || cursor.isBlank()
+                        ? reactiveExternalProjectRepository.findFirstSliceByUserId(userId, limit)
+                        : findSliceAfter(userId, ExternalProjectCursor.decode(cursor), limit))
+                .collectList()
+                .map(rows -> ExternalProjectSlice.of(rows, size, userExternalProjectMapper::toExternalProjectOutbound));
+    }
+
+    private Flux<ExternalProjectProjection> findSliceAfter(UUID userId, ExternalProjectCursor cursor, int limit) {
+        return reactiveExternalProjectRepository.findSliceByUserIdAfter(userId, cursor.createdAt(), cursor.id(), limit);
+    }
+}
@@ -1,5 +1,11 @@
 package io.github.isharipov.acme.platform.project.external.service.impl;
 
+import io.github.isharipov.acme.platform.common.dto.CursorPageOutboundDto;
+import io.github.isharipov.acme.platform.common.util.HashUtil;
+import io.github.isharipov.acme.platform.common.web.Versioned;
+import io.github.isharipov.acme.platform.project.external.model.ExternalProjectCursor;
+import io.github.isharipov.acme.platform.project.external.model.ExternalProjectProjection;
+import io.github.isharipov.acme.platform.project.external.model.ExternalProjectSlice;
 import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectOutboundDto;
 import io.github.isharipov.acme.platform.project.external.infrastructure.exception.ExternalProjectAlreadyExistsException;
 import io.github.isharipov.acme.platform.project.external.infrastructure.mapper.UserExternalProjectMapper;
@@ -11,10 +17,13 @@ import io.github.isharipov.acme.platform.user.service.UserProfileService;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -73,10 +82,67 @@ public class UserExternalProjectServiceImpl implements UserExternalProjectServic
         return userExternalProjectMapper.toExternalProjectOutbound(updated);
     }
 
-    public Page<ExternalProjectOutboundDto> getUserProjects(UUID userId, Pageable pageable) {
+    public Versioned<Page<ExternalProjectOutboundDto>> getUserProjects(UUID userId, Pageable pageable) {
         logger.info("Fetching external projects for userId={}, page={}", userId, pageable.getPageNumber());
         userProfileService.getUserById(userId);
-        return userExternalProjectRepository.findAllByUserId(userId, pageable)
-                .map(userExternalProjectMapper::toExternalProjectOutbound);
+        return findPage(userId, pageable);
+    }
+
+    @Override
+    public Versioned<Page<ExternalProjectOutboundDto>> getOwnProjects(UUID userId, Pageable pageable) {
+        logger.info("Fetching own external projects for userId={}, page={}", userId, pageable.getPageNumber());
+        return findPage(userId, pageable);
+    }
+
+    private Versioned<Page<ExternalProjectOutboundDto>> findPage(UUID userId, Pageable pageable) {
+        var page = userExternalProjectRepository.findAllByUserId(userId, pageable);
+        return new Versioned<>(eTag(page.getTotalElements(), page.getContent()),
+                () -> page.map(userExternalProjectMapper::toExternalProjectOutbound));
+    }
+
+    @Override
+    public Versioned<CursorPageOutboundDto<ExternalProjectOutboundDto>> getUserProjects(UUID userId, String cursor, int size) {
+        logger.info("Fetching external projects for userId={} by cursor", userId);
+        userProfileService.getUserById(userId);
+        return findSlice(userId, cursor, size);
+    }
+
+    @Override
+    public Versioned<CursorPageOutboundDto<ExternalProjectOutboundDto>> getOwnProjects(UUID userId, String cursor, int size) {
+        logger.info("Fetching own external projects for userId={} by cursor", userId);
+        return findSlice(userId, cursor, size);
+    }
+
+    /**
+     * Reads one row past the requested size to learn whether another slice exists, so no count query is needed.
+     * The look-ahead row is part of the entity tag, so the tag changes when a next slice appears.
+     */
+    private Versioned<CursorPageOutboundDto<ExternalProjectOutboundDto>> findSlice(UUID userId, String cursor, int size) {
+        var limit = Limit.of(ExternalProjectSlice.limit(size));
+        var rows = cursor == null || cursor.isBlank()
+                ? userExternalProjectRepository.findFirstSliceByUserId(userId, limit)
+                : findSliceAfter(userId, ExternalProjectCursor.decode(cursor), limit);
+        return new Versioned<>(eTag(-1, rows), () -> ExternalProjectSlice.of(rows, size, userExternalProjectMapper::toExternalProjectOutbound));
+    }
+
+    /**
+     * Hashes the ids on the listing with the latest version among them, a project's version being its
+     * {@code updated_at}, or {@code created_at} until it is first updated.
+     */
+    private static String eTag(long total, List<ExternalProjectProjection> rows) {
+        var latest = Instant.MIN;
+        var value = new StringBuilder().append(total);
+        for (var row : rows) {
+            var version = row.getUpdatedAt() != null ? row.getUpdatedAt() : row.getCreatedAt();
+            if (version.isAfter(latest)) {
+                latest = version;
+            }
+            value.append(':').append(row.getId());
+        }
+        return HashUtil.sha256Base64(value.append('@').append(latest).toString());
+    }
+
+    private List<ExternalProjectProjection> findSliceAfter(UUID userId, ExternalProjectCursor cursor, Limit limit) {
+        return userExternalProjectRepository.findSliceByUserIdAfter(userId, cursor.createdAt(), cursor.id(), limit);
     }
 }
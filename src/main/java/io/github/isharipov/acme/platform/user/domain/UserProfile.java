@@ -1,5 +1,6 @@
 package io.github.isharipov.acme.platform.user.domain;
 
+import io.github.isharipov.acme.platform.common.model.AssignableUuid;
 import io.github.isharipov.acme.platform.common.model.Auditable;
 import jakarta.persistence.*;
 
@@ -10,7 +11,7 @@ import java.util.UUID;
 public class UserProfile extends Auditable {
 
     @Id
-    @GeneratedValue
+    @AssignableUuid
     @Column(name = "id", nullable = false, updatable = false, columnDefinition = "uuid")
     private UUID id;
 
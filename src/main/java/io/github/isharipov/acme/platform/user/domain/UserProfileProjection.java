@@ -1,5 +1,6 @@
 package io.github.isharipov.acme.platform.user.domain;
 
+import java.time.Instant;
 import java.util.UUID;
 
 public interface UserProfileProjection {
@@ -8,4 +9,6 @@ public interface UserProfileProjection {
     UUID getAuthId();
 
     String getName();
+
+    Instant getUpdatedAt();
 }
@@ -11,7 +11,7 @@ import org.mapstruct.*;
 public interface UserProfileMapper {
 
     @Mappings({
-            @Mapping(target = "id", ignore = true),
+            @Mapping(target = "id", source = "profileId"),
             @Mapping(target = "name", ignore = true),
             @Mapping(target = "createdAt", ignore = true),
             @Mapping(target = "updatedAt", ignore = true),
@@ -0,0 +1,80 @@
+package io.github.isharipov.acme.platform.user.repository;
+
+import io.github.isharipov.acme.platform.user.domain.UserProfileProjection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of the {@link UserProfileRepository} lookups, used by the reactive read API.
+ * Timestamp columns hold UTC wall-clock time, as written by Hibernate.
+ */
+@Repository
+public class ReactiveUserProfileRepository {
+
+    private static final String SELECT_ACTIVE_PROFILE = "SELECT id, auth_id, name, updated_at FROM user_profiles WHERE deleted = FALSE";
+    private static final String SELECT_ACTIVE_BY_AUTH_ID = SELECT_ACTIVE_PROFILE + " AND auth_id = :authId";
+    private static final String SELECT_ACTIVE_BY_ID = SELECT_ACTIVE_PROFILE + " AND id = :id";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveUserProfileRepository(ConnectionFactory connectionFactory) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    public Mono<UserProfileProjection> findByAuthIdAndDeletedFalse(UUID authId) {
+        return databaseClient.sql(SELECT_ACTIVE_BY_AUTH_ID)
+                .bind("authId", authId)
+                .map(ReactiveUserProfileRepository::toProjection)
+                .one();
+    }
+
+    public Mono<UserProfileProjection> findByIdAndDeletedFalse(UUID id) {
+        return databaseClient.sql(SELECT_ACTIVE_BY_ID)
+                .bind("id", id)
+                .map(ReactiveUserProfileRepository::toProjection)
+                .one();
+    }
+
+    private static UserProfileProjection toProjection(Readable row) {
+        return new ProfileRow(
+                row.get("id", UUID.class),
+                row.get("auth_id", UUID.class),
+                row.get("name", String.class),
+                toInstant(row.get("updated_at", LocalDateTime.class)));
+    }
+
+    private static Instant toInstant(LocalDateTime utc) {
+        return utc != null ? utc.toInstant(ZoneOffset.UTC) : null;
+    }
+
+    private record ProfileRow(UUID id, UUID authId, String name, Instant updatedAt) implements UserProfileProjection {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public UUID getAuthId() {
+            return authId;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Instant getUpdatedAt() {
+            return updatedAt;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.isharipov.acme.platform.user.repository;
 
+import io.github.isharipov.acme.platform.common.repository.PersistRepository;
 import io.github.isharipov.acme.platform.user.domain.UserProfile;
 import io.github.isharipov.acme.platform.user.domain.UserProfileProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,7 +10,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
+public interface UserProfileRepository extends JpaRepository<UserProfile, Long>, PersistRepository<UserProfile> {
 
     Optional<UserProfileProjection> findByAuthIdAndDeletedFalse(UUID authId);
 
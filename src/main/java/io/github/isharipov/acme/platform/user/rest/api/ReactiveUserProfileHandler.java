@@ -0,0 +1,79 @@
+package io.github.isharipov.acme.platform.user.rest.api;
+
+import io.github.isharipov.acme.platform.project.external.service.ReactiveExternalProjectService;
+import io.github.isharipov.acme.platform.user.service.ReactiveUserProfileService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static io.github.isharipov.acme.platform.common.security.filter.ReactiveJwtAuthenticationFilter.principal;
+
+/**
+ * Non-blocking read endpoints of {@link UserProfileController}. Project listings are keyset-paginated only.
+ */
+@Component
+public class ReactiveUserProfileHandler {
+
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 100;
+
+    private final ReactiveUserProfileService reactiveUserProfileService;
+    private final ReactiveExternalProjectService reactiveExternalProjectService;
+
+    public ReactiveUserProfileHandler(ReactiveUserProfileService reactiveUserProfileService,
+                                      ReactiveExternalProjectService reactiveExternalProjectService) {
+        this.reactiveUserProfileService = reactiveUserProfileService;
+        this.reactiveExternalProjectService = reactiveExternalProjectService;
+    }
+
+    public Mono<ServerResponse> getUserProfile(ServerRequest request) {
+        return reactiveUserProfileService.getUserProfileByAuthId(principal(request))
+                .flatMap(profile -> ServerResponse.ok().bodyValue(profile));
+    }
+
+    public Mono<ServerResponse> getUserProjects(ServerRequest request) {
+        var userId = userId(request);
+        var size = size(request);
+        return reactiveExternalProjectService.getUserProjects(userId, cursor(request), size)
+                .flatMap(slice -> ServerResponse.ok().bodyValue(slice));
+    }
+
+    public Mono<ServerResponse> getCurrentUserProjects(ServerRequest request) {
+        var size = size(request);
+        return reactiveUserProfileService.getProfileId(principal(request))
+                .flatMap(profileId -> reactiveExternalProjectService.getOwnProjects(profileId, cursor(request), size))
+                .flatMap(slice -> ServerResponse.ok().bodyValue(slice));
+    }
+
+    private static UUID userId(ServerRequest request) {
+        try {
+            return UUID.fromString(request.pathVariable("userId"));
+        } catch (IllegalArgumentException e) {
+            throw new ServerWebInputException("userId must be a UUID");
+        }
+    }
+
+    private static String cursor(ServerRequest request) {
+        return request.queryParam("cursor").orElse(null);
+    }
+
+    private static int size(ServerRequest request) {
+        var value = request.queryParam("size");
+        if (value.isEmpty()) {
+            return DEFAULT_SIZE;
+        }
+        try {
+            var size = Integer.parseInt(value.get());
+            if (size >= 1 && size <= MAX_SIZE) {
+                return size;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new ServerWebInputException("size must be between 1 and " + MAX_SIZE);
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.isharipov.acme.platform.user.rest.api;
+
+import io.github.isharipov.acme.platform.common.exception.ReactiveResponseExceptionHandler;
+import io.github.isharipov.acme.platform.common.security.filter.ReactiveJwtAuthenticationFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration
+@ConditionalOnProperty(prefix = "reactive-read", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveUserProfileRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveUserProfileRoutes(ReactiveUserProfileHandler handler,
+                                                                    ReactiveJwtAuthenticationFilter reactiveJwtAuthenticationFilter,
+                                                                    ReactiveResponseExceptionHandler reactiveResponseExceptionHandler) {
+        return RouterFunctions.route()
+                .path("/api/users", users -> users
+                        .GET("/me", handler::getUserProfile)
+                        .GET("/me/projects", handler::getCurrentUserProjects)
+                        .GET("/{userId}/projects", handler::getUserProjects))
+                .filter(reactiveResponseExceptionHandler)
+                .filter(reactiveJwtAuthenticationFilter)
+                .build();
+    }
+}
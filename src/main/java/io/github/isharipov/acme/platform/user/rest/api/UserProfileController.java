@@ -1,19 +1,29 @@
 package io.github.isharipov.acme.platform.user.rest.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.isharipov.acme.platform.common.dto.CursorPageOutboundDto;
 import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.github.isharipov.acme.platform.common.util.NdjsonWriter;
 import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectOutboundDto;
+import io.github.isharipov.acme.platform.project.external.service.ExternalProjectExportService;
 import io.github.isharipov.acme.platform.project.external.service.UserExternalProjectService;
 import io.github.isharipov.acme.platform.user.rest.dto.UserProfileInboundDto;
 import io.github.isharipov.acme.platform.user.rest.dto.UserProfileOutboundDto;
 import io.github.isharipov.acme.platform.user.service.UserProfileService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.UUID;
 
 @Validated
@@ -23,36 +33,81 @@ public class UserProfileController {
 
     private final UserProfileService userProfileService;
     private final UserExternalProjectService userExternalProjectService;
+    private final ExternalProjectExportService externalProjectExportService;
+    private final ObjectMapper objectMapper;
 
-    public UserProfileController(UserProfileService userProfileService, UserExternalProjectService userExternalProjectService) {
+    public UserProfileController(UserProfileService userProfileService, UserExternalProjectService userExternalProjectService,
+                                 ExternalProjectExportService externalProjectExportService, ObjectMapper objectMapper) {
         this.userProfileService = userProfileService;
         this.userExternalProjectService = userExternalProjectService;
+        this.externalProjectExportService = externalProjectExportService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/me")
-    public ResponseEntity<UserProfileOutboundDto> getUserProfile(@AuthenticationPrincipal Principal principal) {
-        return ResponseEntity.ok(userProfileService.getUserProfileByAuthId(principal));
+    public ResponseEntity<UserProfileOutboundDto> getUserProfile(@AuthenticationPrincipal Principal principal, WebRequest request) {
+        return userProfileService.getVersionedUserProfileByAuthId(principal).toResponseEntity(request);
     }
 
     @GetMapping("/{userId}/projects")
     public ResponseEntity<Page<ExternalProjectOutboundDto>> getUserProjects(
             @PathVariable UUID userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request
     ) {
         var pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(userExternalProjectService.getUserProjects(userId, pageable));
+        return userExternalProjectService.getUserProjects(userId, pageable).toResponseEntity(request);
+    }
+
+    @GetMapping(value = "/{userId}/projects", params = "cursor")
+    public ResponseEntity<CursorPageOutboundDto<ExternalProjectOutboundDto>> getUserProjectsByCursor(
+            @PathVariable UUID userId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+            WebRequest request
+    ) {
+        return userExternalProjectService.getUserProjects(userId, cursor, size).toResponseEntity(request);
+    }
+
+    @GetMapping(path = "/{userId}/projects/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportUserProjects(@PathVariable UUID userId, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (var writer = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+            externalProjectExportService.exportUserProjects(userId, writer::write);
+        }
     }
 
     @GetMapping("/me/projects")
     public ResponseEntity<Page<ExternalProjectOutboundDto>> getCurrentUserProjects(
             @AuthenticationPrincipal Principal principal,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request
     ) {
         var pageable = PageRequest.of(page, size);
-        var userProfileByAuthId = userProfileService.getUserProfileByAuthId(principal);
-        return ResponseEntity.ok(userExternalProjectService.getUserProjects(userProfileByAuthId.id(), pageable));
+        var profileId = userProfileService.getProfileId(principal);
+        return userExternalProjectService.getOwnProjects(profileId, pageable).toResponseEntity(request);
+    }
+
+    @GetMapping(value = "/me/projects", params = "cursor")
+    public ResponseEntity<CursorPageOutboundDto<ExternalProjectOutboundDto>> getCurrentUserProjectsByCursor(
+            @AuthenticationPrincipal Principal principal,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+            WebRequest request
+    ) {
+        var profileId = userProfileService.getProfileId(principal);
+        return userExternalProjectService.getOwnProjects(profileId, cursor, size).toResponseEntity(request);
+    }
+
+    @GetMapping(path = "/me/projects/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportCurrentUserProjects(@AuthenticationPrincipal Principal principal, HttpServletResponse response) throws IOException {
+        var profileId = userProfileService.getProfileId(principal);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (var writer = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+            externalProjectExportService.exportOwnProjects(profileId, writer::write);
+        }
     }
 
     @PostMapping("/me")
@@ -2,6 +2,9 @@ package io.github.isharipov.acme.platform.user.rest.dto;
 
 import java.util.UUID;
 
-public record CreateUserProfileInboundDto(UUID authId) {
+public record CreateUserProfileInboundDto(UUID authId, UUID profileId) {
 
+    public CreateUserProfileInboundDto(UUID authId) {
+        this(authId, null);
+    }
 }
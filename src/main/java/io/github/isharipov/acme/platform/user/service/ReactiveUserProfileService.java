@@ -0,0 +1,19 @@
+package io.github.isharipov.acme.platform.user.service;
+
+import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.github.isharipov.acme.platform.user.rest.dto.UserProfileOutboundDto;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking read side of {@link UserProfileService}.
+ */
+public interface ReactiveUserProfileService {
+
+    Mono<UserProfileOutboundDto> getUserProfileByAuthId(Principal principal);
+
+    Mono<UUID> getProfileId(Principal principal);
+
+    Mono<UserProfileOutboundDto> getUserById(UUID id);
+}
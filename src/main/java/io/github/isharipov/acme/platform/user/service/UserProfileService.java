@@ -1,6 +1,7 @@
 package io.github.isharipov.acme.platform.user.service;
 
 import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.github.isharipov.acme.platform.common.web.Versioned;
 import io.github.isharipov.acme.platform.user.rest.dto.CreateUserProfileInboundDto;
 import io.github.isharipov.acme.platform.user.rest.dto.UserProfileInboundDto;
 import io.github.isharipov.acme.platform.user.rest.dto.UserProfileOutboundDto;
@@ -11,8 +12,21 @@ public interface UserProfileService {
 
     UserProfileOutboundDto createUserProfile(CreateUserProfileInboundDto user);
 
+    UserProfileOutboundDto createNewUserProfile(CreateUserProfileInboundDto user);
+
     UserProfileOutboundDto getUserProfileByAuthId(Principal principal);
 
+    /**
+     * Same as {@link #getUserProfileByAuthId} with an entity tag derived from the profile id, its last update and
+     * the caller's email; the body is mapped only when requested.
+     */
+    Versioned<UserProfileOutboundDto> getVersionedUserProfileByAuthId(Principal principal);
+
+    /**
+     * Profile id of the caller, taken from the token when present and looked up by auth id otherwise.
+     */
+    UUID getProfileId(Principal principal);
+
     UserProfileOutboundDto getUserById(UUID id);
 
     void softDeleteUserProfile(UUID authId);
@@ -0,0 +1,59 @@
+package io.github.isharipov.acme.platform.user.service.impl;
+
+import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.github.isharipov.acme.platform.user.infrastructure.UserProfileNotFoundException;
+import io.github.isharipov.acme.platform.user.infrastructure.mapper.UserProfileMapper;
+import io.github.isharipov.acme.platform.user.repository.ReactiveUserProfileRepository;
+import io.github.isharipov.acme.platform.user.rest.dto.UserProfileOutboundDto;
+import io.github.isharipov.acme.platform.user.service.ReactiveUserProfileService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+public class ReactiveUserProfileServiceImpl implements ReactiveUserProfileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveUserProfileServiceImpl.class);
+
+    private final ReactiveUserProfileRepository reactiveUserProfileRepository;
+    private final UserProfileMapper userProfileMapper;
+
+    public ReactiveUserProfileServiceImpl(ReactiveUserProfileRepository reactiveUserProfileRepository, UserProfileMapper userProfileMapper) {
+        this.reactiveUserProfileRepository = reactiveUserProfileRepository;
+        this.userProfileMapper = userProfileMapper;
+    }
+
+    @Override
+    public Mono<UserProfileOutboundDto> getUserProfileByAuthId(Principal principal) {
+        logger.info("Fetching user profile by authId={}", principal.authId());
+        return reactiveUserProfileRepository.findByAuthIdAndDeletedFalse(principal.authId())
+                .switchIfEmpty(Mono.error(() -> {
+                    logger.warn("User profile not found for authId={}", principal.authId());
+                    return new UserProfileNotFoundException("User Profile not found");
+                }))
+                .map(userProfile -> userProfileMapper.toOutboundUserDto(userProfile, principal.email()));
+    }
+
+    @Override
+    public Mono<UUID> getProfileId(Principal principal) {
+        if (principal.profileId() != null) {
+            return Mono.just(principal.profileId());
+        }
+        logger.debug("Token carries no profile id, resolving it for authId={}", principal.authId());
+        return getUserProfileByAuthId(principal).map(UserProfileOutboundDto::id);
+    }
+
+    @Override
+    public Mono<UserProfileOutboundDto> getUserById(UUID id) {
+        logger.info("Fetching user profile by id={}", id);
+        return reactiveUserProfileRepository.findByIdAndDeletedFalse(id)
+                .switchIfEmpty(Mono.error(() -> {
+                    logger.warn("User profile not found for id={}", id);
+                    return new UserProfileNotFoundException("User Profile not found");
+                }))
+                .map(userProfileMapper::toOutboundUserDto);
+    }
+}
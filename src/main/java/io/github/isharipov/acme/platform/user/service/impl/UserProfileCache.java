@@ -0,0 +1,76 @@
+package io.github.isharipov.acme.platform.user.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.isharipov.acme.platform.user.domain.UserProfileProjection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of active user profiles, keyed both by profile id and by auth id. Only found profiles are
+ * cached; writers evict both keys, once immediately and once more when the surrounding transaction completes.
+ */
+@Component
+public class UserProfileCache {
+
+    private static final String BY_ID_CACHE_NAME = "user.profiles.by-id";
+    private static final String BY_AUTH_ID_CACHE_NAME = "user.profiles.by-auth-id";
+
+    private final Cache<UUID, UserProfileProjection> byId;
+    private final Cache<UUID, UserProfileProjection> byAuthId;
+
+    public UserProfileCache(@Value("${user.profile-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${user.profile-cache.expire-after-write:PT5M}") Duration expireAfterWrite,
+                            MeterRegistry meterRegistry) {
+        this.byId = newCache(maximumSize, expireAfterWrite);
+        this.byAuthId = newCache(maximumSize, expireAfterWrite);
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, BY_ID_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, byAuthId, BY_AUTH_ID_CACHE_NAME);
+    }
+
+    public Optional<UserProfileProjection> getById(UUID id, Function<UUID, Optional<UserProfileProjection>> loader) {
+        return Optional.ofNullable(byId.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    public Optional<UserProfileProjection> getByAuthId(UUID authId, Function<UUID, Optional<UserProfileProjection>> loader) {
+        return Optional.ofNullable(byAuthId.get(authId, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void evict(UUID id, UUID authId) {
+        doEvict(id, authId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    doEvict(id, authId);
+                }
+            });
+        }
+    }
+
+    private void doEvict(UUID id, UUID authId) {
+        if (id != null) {
+            byId.invalidate(id);
+        }
+        if (authId != null) {
+            byAuthId.invalidate(authId);
+        }
+    }
+
+    private static Cache<UUID, UserProfileProjection> newCache(long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+}
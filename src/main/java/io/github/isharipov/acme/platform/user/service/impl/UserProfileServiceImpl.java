@@ -1,11 +1,14 @@
 package io.github.isharipov.acme.platform.user.service.impl;
 
 import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.github.isharipov.acme.platform.common.util.HashUtil;
+import io.github.isharipov.acme.platform.common.web.Versioned;
 import io.github.isharipov.acme.platform.user.rest.dto.UserProfileOutboundDto;
 import io.github.isharipov.acme.platform.user.infrastructure.UserProfileAlreadyExists;
 import io.github.isharipov.acme.platform.user.infrastructure.UserProfileNotFoundException;
 import io.github.isharipov.acme.platform.user.infrastructure.mapper.UserProfileMapper;
 import io.github.isharipov.acme.platform.user.domain.UserProfile;
+import io.github.isharipov.acme.platform.user.domain.UserProfileProjection;
 import io.github.isharipov.acme.platform.user.repository.UserProfileRepository;
 import io.github.isharipov.acme.platform.user.rest.dto.CreateUserProfileInboundDto;
 import io.github.isharipov.acme.platform.user.rest.dto.UserProfileInboundDto;
@@ -23,11 +26,13 @@ public class UserProfileServiceImpl implements UserProfileService {
 
     private final UserProfileRepository userProfileRepository;
     private final UserProfileMapper userProfileMapper;
+    private final UserProfileCache userProfileCache;
 
 
-    public UserProfileServiceImpl(UserProfileRepository userProfileRepository, UserProfileMapper userProfileMapper) {
+    public UserProfileServiceImpl(UserProfileRepository userProfileRepository, UserProfileMapper userProfileMapper, UserProfileCache userProfileCache) {
         this.userProfileRepository = userProfileRepository;
         this.userProfileMapper = userProfileMapper;
+        this.userProfileCache = userProfileCache;
     }
 
     @Override
@@ -49,6 +54,7 @@ public class UserProfileServiceImpl implements UserProfileService {
             logger.info("Restoring soft-deleted profile for authId={}", authId);
             profile.setDeleted(false);
             var restored = userProfileRepository.save(profile);
+            userProfileCache.evict(restored.getId(), authId);
             return userProfileMapper.toOutboundUserDto(restored);
         }
 
@@ -58,21 +64,49 @@ public class UserProfileServiceImpl implements UserProfileService {
         return userProfileMapper.toOutboundUserDto(saved);
     }
 
+    @Override
+    public UserProfileOutboundDto createNewUserProfile(CreateUserProfileInboundDto createUserProfile) {
+        logger.info("Creating user profile for newly registered authId={}", createUserProfile.authId());
+        var saved = userProfileRepository.persist(userProfileMapper.createUserToUser(createUserProfile));
+        logger.info("New user profile created: id={}, authId={}", saved.getId(), saved.getAuthId());
+        return userProfileMapper.toOutboundUserDto(saved);
+    }
+
     @Override
     public UserProfileOutboundDto getUserProfileByAuthId(Principal principal) {
+        var userProfile = findByAuthId(principal);
+        return userProfileMapper.toOutboundUserDto(userProfile, principal.email());
+    }
+
+    @Override
+    public Versioned<UserProfileOutboundDto> getVersionedUserProfileByAuthId(Principal principal) {
+        var userProfile = findByAuthId(principal);
+        var eTag = HashUtil.sha256Base64(userProfile.getId() + ":" + userProfile.getUpdatedAt() + ":" + principal.email());
+        return new Versioned<>(eTag, () -> userProfileMapper.toOutboundUserDto(userProfile, principal.email()));
+    }
+
+    private UserProfileProjection findByAuthId(Principal principal) {
         logger.info("Fetching user profile by authId={}", principal.authId());
-        var userProfile = userProfileRepository.findByAuthIdAndDeletedFalse(principal.authId())
+        return userProfileCache.getByAuthId(principal.authId(), userProfileRepository::findByAuthIdAndDeletedFalse)
                 .orElseThrow(() -> {
                     logger.warn("User profile not found for authId={}", principal.authId());
                     return new UserProfileNotFoundException("User Profile not found");
                 });
-        return userProfileMapper.toOutboundUserDto(userProfile, principal.email());
+    }
+
+    @Override
+    public UUID getProfileId(Principal principal) {
+        if (principal.profileId() != null) {
+            return principal.profileId();
+        }
+        logger.debug("Token carries no profile id, resolving it for authId={}", principal.authId());
+        return getUserProfileByAuthId(principal).id();
     }
 
     @Override
     public UserProfileOutboundDto getUserById(UUID id) {
         logger.info("Fetching user profile by id={}", id);
-        var userProfile = userProfileRepository.findByIdAndDeletedFalse(id)
+        var userProfile = userProfileCache.getById(id, userProfileRepository::findByIdAndDeletedFalse)
                 .orElseThrow(() -> {
                     logger.warn("User profile not found for id={}", id);
                     return new UserProfileNotFoundException("User Profile not found");
@@ -90,6 +124,7 @@ public class UserProfileServiceImpl implements UserProfileService {
                 });
         userProfile.setDeleted(true);
         userProfileRepository.save(userProfile);
+        userProfileCache.evict(userProfile.getId(), authId);
         logger.info("User profile marked as deleted: id={}, authId={}", userProfile.getId(), userProfile.getAuthId());
     }
 
@@ -112,6 +147,7 @@ public class UserProfileServiceImpl implements UserProfileService {
         }
 
         var saved = userProfileRepository.save(userProfile);
+        userProfileCache.evict(saved.getId(), authId);
         return userProfileMapper.toOutboundUserDto(saved);
     }
 
@@ -125,6 +161,7 @@ public class UserProfileServiceImpl implements UserProfileService {
                 });
         userProfileMapper.updateFromDto(request, userProfile);
         var saved = userProfileRepository.save(userProfile);
+        userProfileCache.evict(saved.getId(), principal.authId());
         return userProfileMapper.toOutboundUserDto(saved, principal.email());
     }
 }
@@ -1,10 +1,15 @@
 package io.github.isharipov.acme.platform.auth.filter;
 
 import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.github.isharipov.acme.platform.auth.domain.UserAuth;
 import io.github.isharipov.acme.platform.common.exception.JwtAuthenticationException;
+import io.github.isharipov.acme.platform.common.security.account.AccountDirectory;
 import io.github.isharipov.acme.platform.common.security.filter.JwtAuthenticationFilter;
+import io.github.isharipov.acme.platform.common.security.token.TokenRevocationStore;
+import io.github.isharipov.acme.platform.common.security.token.TokenType;
+import io.github.isharipov.acme.platform.common.security.token.VerifiedTokenCache;
 import io.github.isharipov.acme.platform.common.service.JwtTokenProvider;
-import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -14,6 +19,8 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 
+import java.time.Instant;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,7 +30,10 @@ class JwtAuthenticationFilterTest {
 
     private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
     private final AuthenticationEntryPoint entryPoint = mock(AuthenticationEntryPoint.class);
-    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, entryPoint);
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100, new SimpleMeterRegistry());
+    private final TokenRevocationStore tokenRevocationStore = new TokenRevocationStore(100, 0.01, new SimpleMeterRegistry());
+    private final AccountDirectory accountDirectory = new AccountDirectory(100, new SimpleMeterRegistry());
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache, tokenRevocationStore, accountDirectory, entryPoint, Set.of("admin@acme.test"));
 
     @AfterEach
     void clearContext() {
@@ -39,11 +49,9 @@ class JwtAuthenticationFilterTest {
 
         String token = "valid.token.value";
         UUID userId = UUID.randomUUID();
-        Claims claims = mock(Claims.class);
         // WHEN
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
-        when(jwtTokenProvider.parseClaims(token)).thenReturn(claims);
-        when(claims.getSubject()).thenReturn(userId.toString());
+        when(jwtTokenProvider.parseToken(token)).thenReturn(new Principal(userId, "user@acme.test", null, Instant.EPOCH));
 
         filter.doFilterInternal(request, response, filterChain);
         // THEN
@@ -80,10 +88,135 @@ class JwtAuthenticationFilterTest {
 
         // WHEN
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
-        when(jwtTokenProvider.parseClaims(token)).thenThrow(new JwtAuthenticationException("Invalid token", new RuntimeException("Invalid token: " + token)));
+        when(jwtTokenProvider.parseToken(token)).thenThrow(new JwtAuthenticationException("Invalid token", new RuntimeException("Invalid token: " + token)));
         // THEN
         filter.doFilterInternal(request, response, filterChain);
         verify(entryPoint).commence(eq(request), eq(response), any(JwtAuthenticationException.class));
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
+
+    @Test
+    void doFilterInternal_shouldSkipTokenParsing_whenTokenWasAlreadyVerified() throws Exception {
+        // GIVEN
+        var request = mock(HttpServletRequest.class);
+        var response = mock(HttpServletResponse.class);
+        var filterChain = mock(FilterChain.class);
+
+        String token = "cached.token.value";
+        UUID userId = UUID.randomUUID();
+        // WHEN
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(jwtTokenProvider.parseToken(token)).thenReturn(new Principal(userId, "user@acme.test", null, Instant.now().plusSeconds(60)));
+
+        filter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        filter.doFilterInternal(request, response, filterChain);
+        // THEN
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(auth);
+        assertEquals(userId, ((Principal) auth.getPrincipal()).authId());
+
+        verify(jwtTokenProvider, times(1)).parseToken(token);
+        verify(filterChain, times(2)).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternal_shouldCallEntryPoint_whenTokenIsRevoked() throws Exception {
+        // GIVEN
+        var request = mock(HttpServletRequest.class);
+        var response = mock(HttpServletResponse.class);
+        var filterChain = mock(FilterChain.class);
+
+        String token = "revoked.token.value";
+        String tokenId = UUID.randomUUID().toString();
+        var expiresAt = Instant.now().plusSeconds(60);
+        tokenRevocationStore.revoke(tokenId, expiresAt);
+        // WHEN
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(jwtTokenProvider.parseToken(token)).thenReturn(new Principal(UUID.randomUUID(), "user@acme.test", tokenId, expiresAt));
+
+        filter.doFilterInternal(request, response, filterChain);
+        // THEN
+        verify(entryPoint).commence(eq(request), eq(response), any(JwtAuthenticationException.class));
+        verify(filterChain, never()).doFilter(request, response);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilterInternal_shouldCallEntryPoint_whenTokenIsARefreshToken() throws Exception {
+        // GIVEN
+        var request = mock(HttpServletRequest.class);
+        var response = mock(HttpServletResponse.class);
+        var filterChain = mock(FilterChain.class);
+
+        String token = "refresh.token.value";
+        // WHEN
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(jwtTokenProvider.parseToken(token)).thenReturn(
+                new Principal(UUID.randomUUID(), null, null, null, Instant.now().plusSeconds(60), TokenType.REFRESH));
+
+        filter.doFilterInternal(request, response, filterChain);
+        // THEN
+        verify(entryPoint).commence(eq(request), eq(response), any(JwtAuthenticationException.class));
+        verify(filterChain, never()).doFilter(request, response);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilterInternal_shouldCallEntryPoint_whenTokenIsALegacyRefreshToken() throws Exception {
+        // GIVEN
+        var request = mock(HttpServletRequest.class);
+        var response = mock(HttpServletResponse.class);
+        var filterChain = mock(FilterChain.class);
+
+        String token = "legacy.refresh.token";
+        // WHEN
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(jwtTokenProvider.parseToken(token)).thenReturn(new Principal(UUID.randomUUID(), null, "token-id", Instant.now().plusSeconds(60)));
+
+        filter.doFilterInternal(request, response, filterChain);
+        // THEN
+        verify(entryPoint).commence(eq(request), eq(response), any(JwtAuthenticationException.class));
+        verify(filterChain, never()).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternal_shouldGrantAdminRole_whenEmailIsAllowlisted() throws Exception {
+        // GIVEN
+        var request = mock(HttpServletRequest.class);
+        var response = mock(HttpServletResponse.class);
+        var filterChain = mock(FilterChain.class);
+
+        String token = "admin.token.value";
+        // WHEN
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(jwtTokenProvider.parseToken(token)).thenReturn(new Principal(UUID.randomUUID(), "admin@acme.test", null, Instant.EPOCH));
+
+        filter.doFilterInternal(request, response, filterChain);
+        // THEN
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(auth);
+        assertEquals("ROLE_ADMIN", auth.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void doFilterInternal_shouldCallEntryPoint_whenAccountIsNotActive() throws Exception {
+        // GIVEN
+        var request = mock(HttpServletRequest.class);
+        var response = mock(HttpServletResponse.class);
+        var filterChain = mock(FilterChain.class);
+
+        String token = "locked.token.value";
+        UUID userId = UUID.randomUUID();
+        accountDirectory.put(userId, UserAuth.UserStatus.LOCKED, null);
+        // WHEN
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(jwtTokenProvider.parseToken(token)).thenReturn(new Principal(userId, "user@acme.test", null, Instant.now().plusSeconds(60)));
+
+        filter.doFilterInternal(request, response, filterChain);
+        // THEN
+        verify(entryPoint).commence(eq(request), eq(response), any(JwtAuthenticationException.class));
+        verify(filterChain, never()).doFilter(request, response);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
 }
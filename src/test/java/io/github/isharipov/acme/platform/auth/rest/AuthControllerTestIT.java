@@ -6,6 +6,13 @@ import com.github.javafaker.Faker;
 import io.github.isharipov.acme.platform.auth.rest.dto.AuthInboundDto;
 import io.github.isharipov.acme.platform.auth.rest.dto.RefreshTokenInboundDto;
 import io.github.isharipov.acme.platform.auth.rest.dto.RegisterInboundDto;
+import io.github.isharipov.acme.platform.auth.repository.UserAuthRepository;
+import io.github.isharipov.acme.platform.common.security.key.JwtKeyring;
+import io.github.isharipov.acme.platform.common.service.JwtTokenProvider;
+import io.github.isharipov.acme.platform.common.util.HashUtil;
+import io.jsonwebtoken.Jwts;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -14,8 +21,18 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static io.github.isharipov.acme.platform.common.jdbc.SqlStatementMatchers.sqlStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -35,6 +52,14 @@ class AuthControllerTestIT {
     private MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private JwtKeyring jwtKeyring;
+    @Autowired
+    private UserAuthRepository userAuthRepository;
 
     @Test
     void shouldRegisterNewUser_whenValidInputProvided() throws Exception {
@@ -129,6 +154,151 @@ class AuthControllerTestIT {
                 .andExpect(jsonPath("$.refreshToken").exists());
     }
 
+    @Test
+    void shouldAcceptBaselineTokens_byTheirShape_whenTheyHaveNoTypeClaim() throws Exception {
+        // GIVEN
+        var email = new Faker().internet().emailAddress();
+        var register = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(email, PASSWORD))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var authId = jwtTokenProvider.parseToken(objectMapper.readTree(register.getResponse().getContentAsString())
+                .at("/token/accessToken").asText()).authId();
+        var legacyKey = jwtKeyring.findVerificationKey(null);
+        var legacyAccessToken = Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(authId.toString())
+                .claim("email", email)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 15))
+                .signWith(legacyKey, Jwts.SIG.HS256)
+                .compact();
+        var legacyRefreshToken = Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(authId.toString())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24 * 7))
+                .signWith(legacyKey, Jwts.SIG.HS256)
+                .compact();
+        userAuthRepository.updateRefreshHash(authId, HashUtil.sha256(legacyRefreshToken), Instant.now());
+
+        // WHEN
+        // THEN
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + legacyAccessToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + legacyRefreshToken))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenInboundDto(legacyAccessToken))))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenInboundDto(legacyRefreshToken))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").exists());
+    }
+
+    @Test
+    void shouldHashPassword_whenRawPasswordLooksLikeEncodedHash() throws Exception {
+        // GIVEN
+        var email = new Faker().internet().emailAddress();
+        var password = "{a}" + PASSWORD;
+
+        // WHEN
+        mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(email, password))))
+                .andExpect(status().isCreated());
+
+        // THEN
+        var stored = userAuthRepository.findByEmail(email).orElseThrow().getPassword();
+        assertTrue(stored.startsWith("{bcrypt}$2"));
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthInboundDto(email, password))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRegisterWithOneInsertPerTable_whenEmailIsNew() throws Exception {
+        // GIVEN
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var registerRequest = new RegisterInboundDto(new Faker().internet().emailAddress(), PASSWORD);
+        statistics.clear();
+
+        // WHEN
+        mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(sqlStatements(2));
+
+        // THEN
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+    }
+
+    @Test
+    void shouldThrottleLogin_whenTooManyAttemptsForAccount() throws Exception {
+        // GIVEN
+        var email = new Faker().internet().emailAddress();
+        var loginRequest = objectMapper.writeValueAsString(new AuthInboundDto(email, "WrongPassword123"));
+
+        // WHEN
+        for (var i = 0; i < 10; i++) {
+            mockMvc.perform(post("/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(loginRequest))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        // THEN
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(loginRequest))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void shouldRejectRefreshToken_whenAlreadyRotated() throws Exception {
+        // GIVEN
+        var faker = new Faker();
+        var email = faker.internet().emailAddress();
+
+        // WHEN
+        mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(email, PASSWORD))))
+                .andExpect(status().isCreated());
+
+        var loginResult = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthInboundDto(email, PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var refreshToken = objectMapper
+                .readTree(loginResult.getResponse().getContentAsString())
+                .at("/token/refreshToken").asText();
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenInboundDto(refreshToken))))
+                .andExpect(status().isOk());
+
+        // THEN
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenInboundDto(refreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     void shouldReturnUnauthorized_whenRefreshTokenDoesNotMatch() throws Exception {
         // GIVEN
@@ -189,6 +359,34 @@ class AuthControllerTestIT {
                 .andExpect(status().isConflict());
     }
 
+    @Test
+    void shouldReplayRegistration_whenRetriedWithSameIdempotencyKey() throws Exception {
+        // GIVEN
+        var registerRequest = objectMapper.writeValueAsString(new RegisterInboundDto(new Faker().internet().emailAddress(), PASSWORD));
+        var idempotencyKey = UUID.randomUUID().toString();
+        var first = mockMvc.perform(post("/auth/register")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(registerRequest))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        // WHEN
+        // THEN
+        mockMvc.perform(post("/auth/register")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(registerRequest))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(content().json(first.getResponse().getContentAsString()));
+        mockMvc.perform(post("/auth/register")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(new Faker().internet().emailAddress(), PASSWORD))))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     @Test
     void shouldReturnBadRequest_whenEmailIsInvalid() throws Exception {
         // GIVEN
@@ -0,0 +1,157 @@
+package io.github.isharipov.acme.platform.auth.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.javafaker.Faker;
+import io.github.isharipov.acme.platform.auth.rest.dto.AuthInboundDto;
+import io.github.isharipov.acme.platform.auth.rest.dto.RegisterInboundDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.cloud.vault.enabled=false"
+        }
+)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserImportControllerTestIT {
+
+    private static final String PASSWORD = "StrongPassword123!";
+    private static final String ADMIN_EMAIL = "admin@acme.test";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldImportUsers_whenNdjsonIsPosted() throws Exception {
+        // GIVEN
+        var faker = new Faker();
+        var plainEmail = faker.internet().emailAddress();
+        var hashedEmail = faker.internet().emailAddress();
+        var existingEmail = faker.internet().emailAddress();
+        register(existingEmail);
+        var hash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        var body = String.join("\n",
+                record(plainEmail, PASSWORD),
+                record(plainEmail, PASSWORD),
+                record(hashedEmail, hash),
+                record(faker.internet().emailAddress(), "short"),
+                record(existingEmail, PASSWORD),
+                "{not json");
+
+        // WHEN
+        var response = mockMvc.perform(post("/api/admin/users/import")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken())
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // THEN
+        assertEquals(List.of("CREATED", "DUPLICATE", "CREATED", "INVALID", "EXISTS", "INVALID"), statuses(response));
+        login(plainEmail);
+        login(hashedEmail);
+    }
+
+    @Test
+    void shouldImportUsers_whenCsvIsPosted() throws Exception {
+        // GIVEN
+        var faker = new Faker();
+        var email = faker.internet().emailAddress();
+        var body = "email,password\n" + email + "," + PASSWORD + "\nno-separator\n";
+
+        // WHEN
+        var response = mockMvc.perform(post("/api/admin/users/import")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken())
+                        .contentType("text/csv")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // THEN
+        assertEquals(List.of("CREATED", "INVALID"), statuses(response));
+        login(email);
+    }
+
+    @Test
+    void shouldForbidImport_whenUserIsNotAdmin() throws Exception {
+        // GIVEN
+        var email = new Faker().internet().emailAddress();
+        var token = register(email);
+
+        // WHEN
+        // THEN
+        mockMvc.perform(post("/api/admin/users/import")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(record(new Faker().internet().emailAddress(), PASSWORD)))
+                .andExpect(status().isForbidden());
+    }
+
+    private String record(String email, String password) throws Exception {
+        return objectMapper.writeValueAsString(new RegisterInboundDto(email, password));
+    }
+
+    private List<String> statuses(String ndjson) throws Exception {
+        var statuses = new ArrayList<String>();
+        for (var line : ndjson.split("\n")) {
+            statuses.add(objectMapper.readTree(line).get("status").asText());
+        }
+        return statuses;
+    }
+
+    private String adminToken() throws Exception {
+        var register = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(ADMIN_EMAIL, PASSWORD))))
+                .andReturn()
+                .getResponse();
+        if (register.getStatus() == 201) {
+            return objectMapper.readTree(register.getContentAsString()).at("/token/accessToken").asText();
+        }
+        return login(ADMIN_EMAIL);
+    }
+
+    private String register(String email) throws Exception {
+        var response = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(email, PASSWORD))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).at("/token/accessToken").asText();
+    }
+
+    private String login(String email) throws Exception {
+        var response = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthInboundDto(email, PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).at("/token/accessToken").asText();
+    }
+}
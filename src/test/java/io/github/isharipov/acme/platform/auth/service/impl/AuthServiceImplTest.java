@@ -1,27 +1,55 @@
 package io.github.isharipov.acme.platform.auth.service.impl;
 
+import io.github.isharipov.acme.platform.auth.infrastructure.exception.UserAlreadyExistsException;
 import io.github.isharipov.acme.platform.auth.rest.dto.AuthInboundDto;
+import io.github.isharipov.acme.platform.auth.rest.dto.RegisterInboundDto;
 import io.github.isharipov.acme.platform.auth.infrastructure.mapper.UserAuthMapper;
 import io.github.isharipov.acme.platform.auth.domain.UserAuth;
 import io.github.isharipov.acme.platform.auth.repository.UserAuthRepository;
+import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.github.isharipov.acme.platform.common.dto.TokenOutboundDto;
 import io.github.isharipov.acme.platform.common.exception.JwtAuthenticationException;
 import io.github.isharipov.acme.platform.common.exception.RefreshTokenMismatchException;
+import io.github.isharipov.acme.platform.common.security.account.AccountDirectory;
+import io.github.isharipov.acme.platform.common.security.account.AccountStatusChangedEvent;
+import io.github.isharipov.acme.platform.common.security.token.TokenRevocationStore;
+import io.github.isharipov.acme.platform.common.security.token.TokenType;
 import io.github.isharipov.acme.platform.common.service.JwtTokenProvider;
+import io.github.isharipov.acme.platform.common.util.HashUtil;
+import io.github.isharipov.acme.platform.user.rest.dto.CreateUserProfileInboundDto;
+import io.github.isharipov.acme.platform.user.rest.dto.UserProfileOutboundDto;
 import io.github.isharipov.acme.platform.user.service.UserProfileService;
-import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,7 +64,15 @@ class AuthServiceImplTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
     @Mock
-    private AuthenticationManager authenticationManager;
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private AccountDirectory accountDirectory;
 
     @InjectMocks
     private AuthServiceImpl authService;
@@ -44,6 +80,71 @@ class AuthServiceImplTest {
     private final UUID userId = UUID.randomUUID();
     private final String email = "test@example.com";
     private final String refreshToken = "refresh-token";
+    private final UUID profileId = UUID.randomUUID();
+
+    @Test
+    void register_shouldPersistUserWithRefreshHashWithoutLookup() {
+        // GIVEN
+        var registerDto = new RegisterInboundDto(email, "password");
+        var mapped = mappedUser();
+        // WHEN
+        runTransactionCallbacks();
+        when(passwordEncoder.encode("password")).thenReturn("{bcrypt}encoded");
+        when(userAuthMapper.toUserAuth(registerDto)).thenReturn(mapped);
+        when(jwtTokenProvider.generateTokens(any(), eq(email), any())).thenReturn(new TokenOutboundDto("access", refreshToken));
+        when(userService.createNewUserProfile(any())).thenReturn(new UserProfileOutboundDto(profileId, null, null));
+        var result = authService.register(registerDto);
+        // THEN
+        assertEquals(refreshToken, result.token().refreshToken());
+        assertNotNull(mapped.getId());
+        assertEquals("{bcrypt}encoded", mapped.getPassword());
+        assertArrayEquals(HashUtil.sha256(refreshToken), mapped.getRefreshHash());
+        verify(userAuthRepository).persist(mapped);
+        var createProfile = ArgumentCaptor.forClass(CreateUserProfileInboundDto.class);
+        verify(userService).createNewUserProfile(createProfile.capture());
+        assertEquals(mapped.getId(), createProfile.getValue().authId());
+        assertNotNull(createProfile.getValue().profileId());
+        verify(jwtTokenProvider).generateTokens(mapped.getId().toString(), email, createProfile.getValue().profileId());
+        verify(userAuthRepository, never()).findByEmail(any());
+        verify(eventPublisher).publishEvent(new AccountStatusChangedEvent(mapped.getId(), UserAuth.UserStatus.ACTIVE, profileId));
+    }
+
+    @Test
+    void register_shouldRestoreDeletedUser_whenEmailIsTaken() {
+        // GIVEN
+        var registerDto = new RegisterInboundDto(email, "password");
+        var deleted = activeUser();
+        deleted.setStatus(UserAuth.UserStatus.DELETED);
+        // WHEN
+        runTransactionCallbacks();
+        when(passwordEncoder.encode("password")).thenReturn("{bcrypt}encoded");
+        when(userAuthMapper.toUserAuth(registerDto)).thenReturn(mappedUser());
+        when(userAuthRepository.persist(any())).thenThrow(new DataIntegrityViolationException("duplicate email"));
+        when(userAuthRepository.findByEmail(email)).thenReturn(Optional.of(deleted));
+        when(jwtTokenProvider.generateTokens(any(), eq(email), any())).thenReturn(new TokenOutboundDto("access", refreshToken));
+        when(userService.createUserProfile(any())).thenReturn(new UserProfileOutboundDto(profileId, null, null));
+        authService.register(registerDto);
+        // THEN
+        assertEquals(UserAuth.UserStatus.ACTIVE, deleted.getStatus());
+        assertEquals("{bcrypt}encoded", deleted.getPassword());
+        verify(userService).createUserProfile(new CreateUserProfileInboundDto(userId));
+        verify(jwtTokenProvider).generateTokens(userId.toString(), email, profileId);
+        verify(eventPublisher).publishEvent(new AccountStatusChangedEvent(userId, UserAuth.UserStatus.ACTIVE, profileId));
+    }
+
+    @Test
+    void register_shouldThrow_whenActiveUserExists() {
+        // GIVEN
+        var registerDto = new RegisterInboundDto(email, "password");
+        // WHEN
+        runTransactionCallbacks();
+        when(userAuthMapper.toUserAuth(registerDto)).thenReturn(mappedUser());
+        when(jwtTokenProvider.generateTokens(any(), eq(email), any())).thenReturn(new TokenOutboundDto("access", refreshToken));
+        when(userAuthRepository.persist(any())).thenThrow(new DataIntegrityViolationException("duplicate email"));
+        when(userAuthRepository.findByEmail(email)).thenReturn(Optional.of(activeUser()));
+        // THEN
+        assertThrows(UserAlreadyExistsException.class, () -> authService.register(registerDto));
+    }
 
     @Test
     void login_shouldThrow_whenUserNotFound() {
@@ -51,8 +152,73 @@ class AuthServiceImplTest {
         var loginDto = new AuthInboundDto(email, "password");
         // WHEN
         when(userAuthRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(passwordEncoder.encode(anyString())).thenReturn("{bcrypt}dummy");
+        // THEN
+        assertThrows(BadCredentialsException.class, () -> authService.login(loginDto));
+        verify(passwordEncoder).matches("password", "{bcrypt}dummy");
+    }
+
+    @Test
+    void login_shouldThrow_whenPasswordDoesNotMatch() {
+        // GIVEN
+        var loginDto = new AuthInboundDto(email, "password");
+        var userAuth = activeUser();
+        // WHEN
+        when(userAuthRepository.findByEmail(email)).thenReturn(Optional.of(userAuth));
+        when(passwordEncoder.matches("password", userAuth.getPassword())).thenReturn(false);
+        // THEN
+        assertThrows(BadCredentialsException.class, () -> authService.login(loginDto));
+        verify(userAuthRepository, never()).updateRefreshHash(any(), any(), any());
+    }
+
+    @Test
+    void login_shouldThrow_whenUserIsDeleted() {
+        // GIVEN
+        var loginDto = new AuthInboundDto(email, "password");
+        var userAuth = activeUser();
+        userAuth.setStatus(UserAuth.UserStatus.DELETED);
+        // WHEN
+        when(userAuthRepository.findByEmail(email)).thenReturn(Optional.of(userAuth));
+        when(passwordEncoder.matches("password", userAuth.getPassword())).thenReturn(true);
+        // THEN
+        assertThrows(DisabledException.class, () -> authService.login(loginDto));
+    }
+
+    @Test
+    void login_shouldLoadOnceAndUpdateRefreshToken() {
+        // GIVEN
+        var loginDto = new AuthInboundDto(email, "password");
+        var userAuth = activeUser();
+        var tokens = new TokenOutboundDto("access", refreshToken);
+        // WHEN
+        when(userAuthRepository.findByEmail(email)).thenReturn(Optional.of(userAuth));
+        when(passwordEncoder.matches("password", userAuth.getPassword())).thenReturn(true);
+        when(accountDirectory.profileId(userId)).thenReturn(profileId);
+        when(jwtTokenProvider.generateTokens(userId.toString(), email, profileId)).thenReturn(tokens);
+        var result = authService.login(loginDto);
         // THEN
-        assertThrows(UsernameNotFoundException.class, () -> authService.login(loginDto));
+        assertEquals(tokens, result.token());
+        verify(userAuthRepository, times(1)).findByEmail(email);
+        verify(userAuthRepository).updateRefreshHash(eq(userId), eq(HashUtil.sha256(refreshToken)), any());
+        verify(userAuthRepository, never()).save(any());
+    }
+
+    @Test
+    void login_shouldRehashPassword_whenEncodingIsOutdated() {
+        // GIVEN
+        var loginDto = new AuthInboundDto(email, "password");
+        var userAuth = activeUser();
+        var tokens = new TokenOutboundDto("access", refreshToken);
+        // WHEN
+        when(userAuthRepository.findByEmail(email)).thenReturn(Optional.of(userAuth));
+        when(passwordEncoder.matches("password", userAuth.getPassword())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(userAuth.getPassword())).thenReturn(true);
+        when(passwordEncoder.encode("password")).thenReturn("{bcrypt}rehashed");
+        when(jwtTokenProvider.generateTokens(userId.toString(), email, null)).thenReturn(tokens);
+        authService.login(loginDto);
+        // THEN
+        verify(userAuthRepository).updateCredentials(eq(userId), eq("{bcrypt}rehashed"), eq(HashUtil.sha256(refreshToken)), any());
+        verify(userAuthRepository, never()).updateRefreshHash(any(), any(), any());
     }
 
     @Test
@@ -61,25 +227,51 @@ class AuthServiceImplTest {
         // WHEN
         when(userAuthRepository.findById(userId)).thenReturn(Optional.empty());
         // THEN
-        assertThrows(UsernameNotFoundException.class, () -> authService.deleteSelf(userId));
+        assertThrows(UsernameNotFoundException.class, () -> authService.deleteSelf(new Principal(userId, email)));
+    }
+
+    @Test
+    void deleteSelf_shouldRevokeCurrentTokenAndRefreshHash() {
+        // GIVEN
+        var expiresAt = Instant.now().plusSeconds(60);
+        var principal = new Principal(userId, email, "token-id", expiresAt);
+        var userAuth = activeUser();
+        userAuth.setRefreshHash(HashUtil.sha256(refreshToken));
+        // WHEN
+        when(userAuthRepository.findById(userId)).thenReturn(Optional.of(userAuth));
+        authService.deleteSelf(principal);
+        // THEN
+        assertEquals(UserAuth.UserStatus.DELETED, userAuth.getStatus());
+        assertNull(userAuth.getRefreshHash());
+        verify(userService).softDeleteUserProfile(userId);
+        verify(tokenRevocationStore).revoke("token-id", expiresAt);
+        verify(eventPublisher).publishEvent(new AccountStatusChangedEvent(userId, UserAuth.UserStatus.DELETED, null));
     }
 
     @Test
     void refreshToken_shouldThrow_whenJwtInvalid() {
         // GIVEN
         // WHEN
-        when(jwtTokenProvider.parseClaims(refreshToken)).thenThrow(new JwtAuthenticationException("Invalid", new RuntimeException(refreshToken)));
+        when(jwtTokenProvider.parseToken(refreshToken)).thenThrow(new JwtAuthenticationException("Invalid", new RuntimeException(refreshToken)));
+        // THEN
+        assertThrows(JwtAuthenticationException.class, () -> authService.refreshToken(refreshToken));
+    }
+
+    @Test
+    void refreshToken_shouldThrow_whenTokenIsAnAccessToken() {
+        // GIVEN
+        // WHEN
+        when(jwtTokenProvider.parseToken(refreshToken)).thenReturn(new Principal(userId, email, null, null, null, TokenType.ACCESS));
         // THEN
         assertThrows(JwtAuthenticationException.class, () -> authService.refreshToken(refreshToken));
+        verify(userAuthRepository, never()).rotateRefreshHash(any(), any(), any(), any());
     }
 
     @Test
     void refreshToken_shouldThrow_whenUserNotFound() {
         // GIVEN
-        var claims = mock(Claims.class);
         // WHEN
-        when(claims.getSubject()).thenReturn(userId.toString());
-        when(jwtTokenProvider.parseClaims(refreshToken)).thenReturn(claims);
+        when(jwtTokenProvider.parseToken(refreshToken)).thenReturn(new Principal(userId, null));
         when(userAuthRepository.findById(userId)).thenReturn(Optional.empty());
         // THEN
         assertThrows(UsernameNotFoundException.class, () -> authService.refreshToken(refreshToken));
@@ -88,16 +280,53 @@ class AuthServiceImplTest {
     @Test
     void refreshToken_shouldThrow_whenTokenMismatch() {
         // GIVEN
-        var claims = mock(Claims.class);
-        var userAuth = new UserAuth();
-        userAuth.setId(userId);
-        userAuth.setEmail(email);
-        userAuth.setRefreshToken("other-token");
         // WHEN
-        when(claims.getSubject()).thenReturn(userId.toString());
-        when(jwtTokenProvider.parseClaims(refreshToken)).thenReturn(claims);
-        when(userAuthRepository.findById(userId)).thenReturn(Optional.of(userAuth));
+        when(jwtTokenProvider.parseToken(refreshToken)).thenReturn(new Principal(userId, email, null, null, null, TokenType.REFRESH));
+        when(accountDirectory.profileId(userId)).thenReturn(profileId);
+        when(jwtTokenProvider.generateTokens(userId.toString(), email, profileId)).thenReturn(new TokenOutboundDto("access", "next"));
+        when(userAuthRepository.rotateRefreshHash(eq(userId), eq(HashUtil.sha256(refreshToken)), eq(HashUtil.sha256("next")), any()))
+                .thenReturn(0);
+        when(userAuthRepository.existsById(userId)).thenReturn(true);
         // THEN
         assertThrows(RefreshTokenMismatchException.class, () -> authService.refreshToken(refreshToken));
     }
-}
\ No newline at end of file
+
+    @Test
+    void refreshToken_shouldRotateWithSingleConditionalUpdate() {
+        // GIVEN
+        var tokens = new TokenOutboundDto("access", "next");
+        // WHEN
+        when(jwtTokenProvider.parseToken(refreshToken)).thenReturn(new Principal(userId, email, profileId, "token-id", Instant.now().plusSeconds(60), TokenType.REFRESH));
+        when(jwtTokenProvider.generateTokens(userId.toString(), email, profileId)).thenReturn(tokens);
+        when(userAuthRepository.rotateRefreshHash(eq(userId), eq(HashUtil.sha256(refreshToken)), eq(HashUtil.sha256("next")), any()))
+                .thenReturn(1);
+        var result = authService.refreshToken(refreshToken);
+        // THEN
+        assertEquals(tokens, result);
+        verify(userAuthRepository, never()).findById(any());
+        verify(userAuthRepository, never()).existsById(any());
+        verify(accountDirectory, never()).profileId(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionCallbacks() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    private UserAuth mappedUser() {
+        var userAuth = new UserAuth();
+        userAuth.setEmail(email);
+        userAuth.setPassword("password");
+        return userAuth;
+    }
+
+    private UserAuth activeUser() {
+        var userAuth = new UserAuth();
+        userAuth.setId(userId);
+        userAuth.setEmail(email);
+        userAuth.setPassword("$2a$04$encoded");
+        userAuth.setStatus(UserAuth.UserStatus.ACTIVE);
+        return userAuth;
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.isharipov.acme.platform.common.configuration.security;
+
+import io.github.isharipov.acme.platform.common.util.PasswordUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordEncoderConfigTest {
+
+    private static final String PASSWORD = "StrongPassword123!";
+
+    @Test
+    void delegatingPasswordEncoder_shouldPrefixAlgorithmAndCost() {
+        // GIVEN
+        var encoder = PasswordEncoderConfig.delegatingPasswordEncoder(5);
+        // WHEN
+        var encoded = encoder.encode(PASSWORD);
+        // THEN
+        assertTrue(encoded.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(PasswordUtil.isEncoded(encoded));
+        assertTrue(encoder.matches(PASSWORD, encoded));
+        assertFalse(encoder.upgradeEncoding(encoded));
+    }
+
+    @Test
+    void delegatingPasswordEncoder_shouldRequestUpgrade_whenHashIsOutdated() {
+        // GIVEN
+        var encoder = PasswordEncoderConfig.delegatingPasswordEncoder(5);
+        var legacy = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        var weaker = PasswordEncoderConfig.delegatingPasswordEncoder(4).encode(PASSWORD);
+        // WHEN
+        // THEN
+        assertTrue(PasswordUtil.isEncoded(legacy));
+        assertTrue(encoder.matches(PASSWORD, legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+        assertTrue(encoder.upgradeEncoding(weaker));
+        assertFalse(PasswordUtil.isEncoded(PASSWORD));
+    }
+
+    @Test
+    void isEncoded_shouldBeFalse_whenRawPasswordLooksLikeDelegatingHash() {
+        // GIVEN
+        // WHEN
+        // THEN
+        assertFalse(PasswordUtil.isEncoded("{a}hunter22"));
+        assertFalse(PasswordUtil.isEncoded("{bcrypt}hunter22"));
+        assertFalse(PasswordUtil.isEncoded("{noop}" + PASSWORD));
+    }
+}
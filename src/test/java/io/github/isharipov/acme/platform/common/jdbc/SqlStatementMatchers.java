@@ -0,0 +1,24 @@
+package io.github.isharipov.acme.platform.common.jdbc;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * MockMvc matchers over the {@link SqlStatementStats} recorded by {@link SqlStatementMetricsFilter}, so that a change
+ * in the number of statements an endpoint runs fails the test instead of slipping into production.
+ */
+public final class SqlStatementMatchers {
+
+    private SqlStatementMatchers() {
+    }
+
+    public static ResultMatcher sqlStatements(long expected) {
+        return result -> {
+            var stats = (SqlStatementStats) result.getRequest().getAttribute(SqlStatementMetricsFilter.STATS_ATTRIBUTE);
+            assertNotNull(stats, "SQL statements were not recorded for this request");
+            assertEquals(expected, stats.statements(), () -> "SQL statements for " + result.getRequest().getMethod() + " " + result.getRequest().getRequestURI());
+        };
+    }
+}
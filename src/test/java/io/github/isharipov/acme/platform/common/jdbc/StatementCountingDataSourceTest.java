@@ -0,0 +1,56 @@
+package io.github.isharipov.acme.platform.common.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatementCountingDataSourceTest {
+
+    private final SingleConnectionDataSource target = new SingleConnectionDataSource("jdbc:h2:mem:statement-counting;DB_CLOSE_DELAY=-1", "sa", "", true);
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new StatementCountingDataSource(target));
+
+    @BeforeEach
+    void createTable() {
+        jdbcTemplate.execute("CREATE TABLE projects (id INT PRIMARY KEY, name VARCHAR(64))");
+    }
+
+    @AfterEach
+    void dropTable() {
+        SqlStatementStats.stop();
+        jdbcTemplate.execute("DROP TABLE projects");
+        target.destroy();
+    }
+
+    @Test
+    void shouldCountStatementsAndRows_whenRequestIsTracked() {
+        // GIVEN
+        var stats = SqlStatementStats.start();
+        // WHEN
+        jdbcTemplate.batchUpdate("INSERT INTO projects (id, name) VALUES (?, ?)", List.of(new Object[]{1, "a"}, new Object[]{2, "b"}, new Object[]{3, "c"}));
+        var names = jdbcTemplate.queryForList("SELECT name FROM projects ORDER BY id", String.class);
+        jdbcTemplate.update("UPDATE projects SET name = ? WHERE id = ?", "d", 1);
+        // THEN
+        assertEquals(List.of("a", "b", "c"), names);
+        assertEquals(3, stats.statements());
+        assertEquals(7, stats.rows());
+        assertTrue(stats.nanos() > 0);
+    }
+
+    @Test
+    void shouldNotCount_whenNoRequestIsTracked() {
+        // GIVEN
+        var stats = SqlStatementStats.start();
+        SqlStatementStats.stop();
+        // WHEN
+        jdbcTemplate.update("INSERT INTO projects (id, name) VALUES (?, ?)", 1, "a");
+        // THEN
+        assertEquals(0, stats.statements());
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.isharipov.acme.platform.common.security.account;
+
+import io.github.isharipov.acme.platform.auth.domain.UserAuth.UserStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AccountDirectoryTest {
+
+    private final AccountDirectory accountDirectory = new AccountDirectory(16, new SimpleMeterRegistry());
+
+    @Test
+    void status_shouldReturnNull_whenAccountIsUnknown() {
+        // GIVEN
+        accountDirectory.put(UUID.randomUUID(), UserStatus.ACTIVE, UUID.randomUUID());
+        // WHEN
+        var status = accountDirectory.status(UUID.randomUUID());
+        // THEN
+        assertNull(status);
+    }
+
+    @Test
+    void put_shouldKeepProfileId_whenOnlyStatusChanges() {
+        // GIVEN
+        var authId = UUID.randomUUID();
+        var profileId = UUID.randomUUID();
+        accountDirectory.put(authId, UserStatus.ACTIVE, profileId);
+        // WHEN
+        accountDirectory.onAccountStatusChanged(new AccountStatusChangedEvent(authId, UserStatus.BANNED, null));
+        // THEN
+        assertEquals(UserStatus.BANNED, accountDirectory.status(authId));
+        assertEquals(profileId, accountDirectory.profileId(authId));
+        assertEquals(1, accountDirectory.size());
+    }
+
+    @Test
+    void put_shouldKeepEveryEntry_whenTableGrows() {
+        // GIVEN
+        var expected = new HashMap<UUID, UserStatus>();
+        var statuses = UserStatus.values();
+        for (int i = 0; i < 10_000; i++) {
+            var authId = UUID.randomUUID();
+            var status = statuses[i % statuses.length];
+            expected.put(authId, status);
+            accountDirectory.put(authId, status, UUID.randomUUID());
+        }
+        // WHEN
+        // THEN
+        assertEquals(expected.size(), accountDirectory.size());
+        expected.forEach((authId, status) -> assertEquals(status, accountDirectory.status(authId)));
+    }
+}
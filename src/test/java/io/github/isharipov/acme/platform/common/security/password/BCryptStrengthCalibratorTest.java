@@ -0,0 +1,33 @@
+package io.github.isharipov.acme.platform.common.security.password;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BCryptStrengthCalibratorTest {
+
+    private final BCryptStrengthCalibrator calibrator = new BCryptStrengthCalibrator(strength -> Duration.ofMillis(40));
+
+    @Test
+    void calibrate_shouldPickHighestStrengthWithinTarget() {
+        // GIVEN
+        var target = Duration.ofMillis(200);
+        // WHEN
+        var strength = calibrator.calibrate(target, 10, 16);
+        // THEN
+        assertEquals(12, strength);
+    }
+
+    @Test
+    void calibrate_shouldClampToBounds() {
+        // GIVEN
+        // WHEN
+        var slowHardware = calibrator.calibrate(Duration.ofMillis(10), 10, 16);
+        var fastHardware = calibrator.calibrate(Duration.ofMinutes(1), 10, 16);
+        // THEN
+        assertEquals(10, slowHardware);
+        assertEquals(16, fastHardware);
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.isharipov.acme.platform.common.security.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkheadPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void encode_shouldDelegateAndRecordDuration() {
+        // GIVEN
+        var encoder = new BulkheadPasswordEncoder(new PlainPasswordEncoder(null), executor, Duration.ofSeconds(1), meterRegistry);
+        // WHEN
+        var encoded = encoder.encode("secret");
+        // THEN
+        assertEquals("{plain}secret", encoded);
+        assertTrue(encoder.matches("secret", encoded));
+        assertEquals(1, meterRegistry.get("auth.password.hashing.duration").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hashing.wait").timer().count());
+    }
+
+    @Test
+    void encode_shouldFailFast_whenQueueIsFull() {
+        // GIVEN
+        var encoder = new BulkheadPasswordEncoder(new PlainPasswordEncoder(release), executor, Duration.ofSeconds(5), meterRegistry);
+        CompletableFuture.runAsync(() -> encoder.encode("running"));
+        CompletableFuture.runAsync(() -> encoder.encode("queued"));
+        awaitSaturation();
+        // WHEN
+        // THEN
+        assertThrows(PasswordHashingRejectedException.class, () -> encoder.encode("rejected"));
+        assertEquals(1.0, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+    }
+
+    @Test
+    void matches_shouldFail_whenQueueWaitExceedsLimit() {
+        // GIVEN
+        var encoder = new BulkheadPasswordEncoder(new PlainPasswordEncoder(release), executor, Duration.ofMillis(50), meterRegistry);
+        CompletableFuture.runAsync(() -> encoder.encode("running"));
+        awaitActive();
+        // WHEN
+        // THEN
+        assertThrows(PasswordHashingRejectedException.class, () -> encoder.matches("secret", "{plain}secret"));
+        assertEquals(0, executor.getQueue().size());
+        assertEquals(1.0, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+    }
+
+    @Test
+    void matches_shouldReturnResult_whenStartedHashingOutlastsLimit() throws Exception {
+        // GIVEN
+        var encoder = new BulkheadPasswordEncoder(new PlainPasswordEncoder(release), executor, Duration.ofMillis(50), meterRegistry);
+        var result = CompletableFuture.supplyAsync(() -> encoder.matches("secret", "{plain}secret"));
+        awaitActive();
+        // WHEN
+        Thread.sleep(100);
+        release.countDown();
+        // THEN
+        assertTrue(result.get(5, TimeUnit.SECONDS));
+        assertEquals(0.0, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+    }
+
+    private void awaitActive() {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getActiveCount() == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void awaitSaturation() {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getQueue().remainingCapacity() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private record PlainPasswordEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return ("{plain}" + rawPassword).equals(encodedPassword);
+        }
+
+        private void await() {
+            if (release == null) {
+                return;
+            }
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.isharipov.acme.platform.common.security.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AuthenticationThrottleTest {
+
+    private static final String IP = "10.0.0.1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+    private final AuthenticationThrottle throttle = new AuthenticationThrottle(
+            new AuthenticationThrottleProperties(
+                    new AuthenticationThrottleProperties.Limit(3, Duration.ofSeconds(30)),
+                    new AuthenticationThrottleProperties.Limit(5, Duration.ofSeconds(5)),
+                    null,
+                    null),
+            meterRegistry,
+            clock::get);
+
+    @Test
+    void checkLogin_shouldRejectAccount_whenBucketIsEmpty() {
+        // GIVEN
+        for (var i = 0; i < 3; i++) {
+            throttle.checkLogin("User@Example.com", IP);
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        }
+        // WHEN
+        var ex = assertThrows(AuthenticationThrottledException.class, () -> throttle.checkLogin(" user@example.com", IP));
+        // THEN
+        assertEquals(Duration.ofSeconds(7), ex.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("auth.throttle.rejected").tag("limit", "account").counter().count());
+        assertDoesNotThrow(() -> throttle.checkLogin("other@example.com", IP));
+    }
+
+    @Test
+    void checkLogin_shouldRefillBucketOverTime() {
+        // GIVEN
+        for (var i = 0; i < 3; i++) {
+            throttle.checkLogin("user@example.com", IP);
+        }
+        assertThrows(AuthenticationThrottledException.class, () -> throttle.checkLogin("user@example.com", IP));
+        // WHEN
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        // THEN
+        assertDoesNotThrow(() -> throttle.checkLogin("user@example.com", IP));
+    }
+
+    @Test
+    void checkRefresh_shouldRejectAddress_whenBucketIsEmpty() {
+        // GIVEN
+        for (var i = 0; i < 5; i++) {
+            throttle.checkRefresh(IP);
+        }
+        // WHEN
+        // THEN
+        assertThrows(AuthenticationThrottledException.class, () -> throttle.checkRefresh(IP));
+        assertThrows(AuthenticationThrottledException.class, () -> throttle.checkLogin("user@example.com", IP));
+        assertDoesNotThrow(() -> throttle.checkRefresh("10.0.0.2"));
+        assertEquals(2.0, meterRegistry.get("auth.throttle.rejected").tag("limit", "ip").counter().count());
+    }
+}
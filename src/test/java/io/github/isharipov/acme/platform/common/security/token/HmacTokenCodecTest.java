@@ -0,0 +1,143 @@
+package io.github.isharipov.acme.platform.common.security.token;
+
+import io.github.isharipov.acme.platform.common.security.key.JwtKeyring;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HmacTokenCodecTest {
+
+    private static final String SECRET = "first-secret-value-long-enough-for-hs256-signing";
+
+    private final JwtKeyring jwtKeyring = new JwtKeyring(new MockEnvironment()
+            .withProperty("jwt.active-kid", "k1")
+            .withProperty("jwt.keys.k1", SECRET));
+    private final HmacTokenCodec codec = new HmacTokenCodec(jwtKeyring);
+
+    private final UUID authId = UUID.randomUUID();
+    private final String email = "tést\"user@example.com";
+    private final UUID profileId = UUID.randomUUID();
+
+    @Test
+    void decode_shouldReadClaims_whenTokenWasIssuedByJjwt() {
+        // GIVEN
+        var expiresAt = Instant.now().plusSeconds(60);
+        var token = Jwts.builder()
+                .header().keyId("k1").and()
+                .id("token-id")
+                .subject(authId.toString())
+                .claim("email", email)
+                .issuedAt(new Date())
+                .expiration(Date.from(expiresAt))
+                .signWith(jwtKeyring.signingKey().key(), Jwts.SIG.HS256)
+                .compact();
+        // WHEN
+        var principal = codec.decode(token);
+        // THEN
+        assertEquals(authId, principal.authId());
+        assertEquals(email, principal.email());
+        assertEquals("token-id", principal.tokenId());
+        assertNull(principal.profileId());
+        assertEquals(TokenType.ACCESS, principal.tokenType());
+        assertEquals(expiresAt.getEpochSecond(), principal.expiresAt().getEpochSecond());
+    }
+
+    @Test
+    void decode_shouldClassifyAsRefresh_whenBaselineTokenHasNoEmail() {
+        // GIVEN
+        var legacyKeyring = new JwtKeyring(new MockEnvironment().withProperty("jwt.secret", SECRET));
+        var legacyCodec = new HmacTokenCodec(legacyKeyring);
+        var token = Jwts.builder()
+                .id("token-id")
+                .subject(authId.toString())
+                .issuedAt(new Date())
+                .expiration(Date.from(Instant.now().plus(Duration.ofDays(7))))
+                .signWith(legacyKeyring.findVerificationKey(null), Jwts.SIG.HS256)
+                .compact();
+        // WHEN
+        var principal = legacyCodec.decode(token);
+        // THEN
+        assertNull(principal.email());
+        assertEquals(TokenType.REFRESH, principal.tokenType());
+    }
+
+    @Test
+    void encode_shouldProduceTokenAcceptedByJjwt() {
+        // GIVEN
+        var token = codec.encode(TokenType.ACCESS, authId.toString(), email, profileId, Duration.ofMinutes(15));
+        // WHEN
+        var jws = Jwts.parser()
+                .verifyWith(jwtKeyring.signingKey().key())
+                .build()
+                .parseSignedClaims(token);
+        // THEN
+        assertEquals("k1", jws.getHeader().getKeyId());
+        assertEquals(authId.toString(), jws.getPayload().getSubject());
+        assertEquals(email, jws.getPayload().get("email", String.class));
+        assertEquals(profileId.toString(), jws.getPayload().get("pid", String.class));
+        assertEquals("access", jws.getPayload().get("typ", String.class));
+        assertEquals(codec.decode(token).tokenId(), jws.getPayload().getId());
+    }
+
+    @Test
+    void decode_shouldThrow_whenSignatureIsTampered() {
+        // GIVEN
+        var token = codec.encode(TokenType.ACCESS, authId.toString(), email, profileId, Duration.ofMinutes(15));
+        var last = token.charAt(token.length() - 2);
+        var tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+        // WHEN
+        // THEN
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(tampered));
+    }
+
+    @Test
+    void decode_shouldThrow_whenTokenIsExpired() {
+        // GIVEN
+        var now = System.currentTimeMillis();
+        var issuer = new HmacTokenCodec(jwtKeyring, () -> now);
+        var verifier = new HmacTokenCodec(jwtKeyring, () -> now + Duration.ofMinutes(16).toMillis());
+        var token = issuer.encode(TokenType.ACCESS, authId.toString(), email, profileId, Duration.ofMinutes(15));
+        // WHEN
+        // THEN
+        assertThrows(IllegalArgumentException.class, () -> verifier.decode(token));
+    }
+
+    @Test
+    void decode_shouldThrow_whenAlgorithmIsNone() {
+        // GIVEN
+        var token = codec.encode(TokenType.ACCESS, authId.toString(), email, profileId, Duration.ofMinutes(15));
+        var unsigned = "eyJhbGciOiJub25lIn0" + token.substring(token.indexOf('.'), token.lastIndexOf('.') + 1);
+        // WHEN
+        // THEN
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(unsigned));
+    }
+
+    @Test
+    void decode_shouldReadProfileId_whenTokenCarriesIt() {
+        // GIVEN
+        var token = codec.encode(TokenType.ACCESS, authId.toString(), email, profileId, Duration.ofMinutes(15));
+        // WHEN
+        var principal = codec.decode(token);
+        // THEN
+        assertEquals(profileId, principal.profileId());
+    }
+
+    @Test
+    void decode_shouldReadTokenType() {
+        // GIVEN
+        var token = codec.encode(TokenType.REFRESH, authId.toString(), email, profileId, Duration.ofDays(7));
+        // WHEN
+        var principal = codec.decode(token);
+        // THEN
+        assertEquals(TokenType.REFRESH, principal.tokenType());
+    }
+}
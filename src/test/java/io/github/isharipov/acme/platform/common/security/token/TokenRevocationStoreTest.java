@@ -0,0 +1,67 @@
+package io.github.isharipov.acme.platform.common.security.token;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenRevocationStoreTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenRevocationStore store = new TokenRevocationStore(1_000, 0.01, meterRegistry);
+
+    @Test
+    void isRevoked_shouldOnlyMatchRevokedTokenIds() {
+        // GIVEN
+        var revokedIds = IntStream.range(0, 500).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        revokedIds.forEach(id -> store.revoke(id, Instant.now().plusSeconds(60)));
+        // WHEN
+        var falsePositives = IntStream.range(0, 10_000)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .filter(store::isRevoked)
+                .count();
+        // THEN
+        assertTrue(revokedIds.stream().allMatch(store::isRevoked));
+        assertEquals(0, falsePositives);
+        assertEquals(500.0, meterRegistry.get("jwt.revoked.tokens").gauge().value());
+    }
+
+    @Test
+    void purgeExpired_shouldDropEntriesPastTheirExpiry() {
+        // GIVEN
+        var active = UUID.randomUUID().toString();
+        var expiring = UUID.randomUUID().toString();
+        store.revoke(active, Instant.now().plusSeconds(60));
+        store.revoke(expiring, Instant.now().plusMillis(20));
+        // WHEN
+        await(Instant.now().plusMillis(50));
+        store.purgeExpired();
+        // THEN
+        assertTrue(store.isRevoked(active));
+        assertFalse(store.isRevoked(expiring));
+        assertEquals(1.0, meterRegistry.get("jwt.revoked.tokens").gauge().value());
+    }
+
+    @Test
+    void revoke_shouldIgnoreAlreadyExpiredTokens() {
+        // GIVEN
+        var tokenId = UUID.randomUUID().toString();
+        // WHEN
+        store.revoke(tokenId, Instant.now().minusSeconds(1));
+        // THEN
+        assertFalse(store.isRevoked(tokenId));
+        assertFalse(store.isRevoked(null));
+    }
+
+    private static void await(Instant deadline) {
+        while (Instant.now().isBefore(deadline)) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.isharipov.acme.platform.common.security.token;
+
+import io.github.isharipov.acme.platform.common.dto.Principal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class VerifiedTokenCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100, meterRegistry);
+    private final Principal principal = new Principal(UUID.randomUUID(), "test@example.com");
+
+    @Test
+    void get_shouldVerifyOnce_whenTokenIsNotExpired() {
+        // GIVEN
+        var verifications = new AtomicInteger();
+        var verified = new VerifiedToken(principal, Instant.now().plusSeconds(60));
+        // WHEN
+        var first = cache.get("token", token -> {
+            verifications.incrementAndGet();
+            return verified;
+        });
+        var second = cache.get("token", token -> {
+            verifications.incrementAndGet();
+            return verified;
+        });
+        // THEN
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwt.verified-tokens").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void get_shouldVerifyAgain_whenTokenIsExpired() {
+        // GIVEN
+        var verifications = new AtomicInteger();
+        var expired = new VerifiedToken(principal, Instant.now().minusSeconds(1));
+        // WHEN
+        cache.get("token", token -> {
+            verifications.incrementAndGet();
+            return expired;
+        });
+        var result = cache.get("token", token -> {
+            verifications.incrementAndGet();
+            return expired;
+        });
+        // THEN
+        assertNotNull(result);
+        assertEquals(2, verifications.get());
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.isharipov.acme.platform.common.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.isharipov.acme.platform.common.exception.JwtAuthenticationException;
+import io.github.isharipov.acme.platform.common.security.key.JwtKeySet;
+import io.github.isharipov.acme.platform.common.security.key.JwtKeyring;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtTokenProviderTest {
+
+    private static final String FIRST_SECRET = "first-secret-value-long-enough-for-hs256-signing";
+    private static final String SECOND_SECRET = "second-secret-value-long-enough-for-hs256-signing";
+
+    private final JwtKeyring jwtKeyring = new JwtKeyring(new MockEnvironment()
+            .withProperty("jwt.active-kid", "k1")
+            .withProperty("jwt.keys.k1", FIRST_SECRET));
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(jwtKeyring);
+
+    private final String subject = UUID.randomUUID().toString();
+    private final String email = "test@example.com";
+
+    @Test
+    void generateAccessToken_shouldSetKeyIdHeader_whenSigningWithActiveKey() throws Exception {
+        // GIVEN
+        var token = jwtTokenProvider.generateAccessToken(subject, email, null);
+        // WHEN
+        var principal = jwtTokenProvider.parseToken(token);
+        // THEN
+        assertEquals("k1", keyId(token));
+        assertEquals(subject, principal.authId().toString());
+        assertEquals(email, principal.email());
+    }
+
+    @Test
+    void parseToken_shouldVerifyPreviousKey_whenKeyringWasRotated() throws Exception {
+        // GIVEN
+        var oldToken = jwtTokenProvider.generateAccessToken(subject, email, null);
+        // WHEN
+        var retired = jwtKeyring.update(JwtKeySet.fromProperties(Map.of(
+                "jwt.active-kid", "k2",
+                "jwt.keys.k1", FIRST_SECRET,
+                "jwt.keys.k2", SECOND_SECRET)));
+        var newToken = jwtTokenProvider.generateAccessToken(subject, email, null);
+        // THEN
+        assertEquals(Set.of(), retired);
+        assertEquals(subject, jwtTokenProvider.parseToken(oldToken).authId().toString());
+        assertEquals(subject, jwtTokenProvider.parseToken(newToken).authId().toString());
+        assertEquals("k2", keyId(newToken));
+    }
+
+    @Test
+    void parseToken_shouldThrow_whenSigningKeyWasRetired() {
+        // GIVEN
+        var oldToken = jwtTokenProvider.generateAccessToken(subject, email, null);
+        // WHEN
+        var retired = jwtKeyring.update(JwtKeySet.fromProperties(Map.of(
+                "jwt.active-kid", "k2",
+                "jwt.keys.k2", SECOND_SECRET)));
+        // THEN
+        assertEquals(Set.of("k1"), retired);
+        assertThrows(JwtAuthenticationException.class, () -> jwtTokenProvider.parseToken(oldToken));
+    }
+
+    @Test
+    void parseToken_shouldUseLegacySecret_whenTokenHasNoKeyId() {
+        // GIVEN
+        var keyring = new JwtKeyring(new MockEnvironment().withProperty("jwt.secret", FIRST_SECRET));
+        var provider = new JwtTokenProvider(keyring);
+        var legacyToken = Jwts.builder()
+                .subject(subject)
+                .signWith(keyring.findVerificationKey(JwtKeySet.LEGACY_KEY_ID), Jwts.SIG.HS256)
+                .compact();
+        // WHEN
+        var principal = provider.parseToken(legacyToken);
+        // THEN
+        assertEquals(subject, principal.authId().toString());
+    }
+
+    private static String keyId(String token) throws Exception {
+        var header = Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.')));
+        return new ObjectMapper().readTree(header).get("kid").asText();
+    }
+}
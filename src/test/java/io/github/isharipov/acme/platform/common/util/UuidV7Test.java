@@ -0,0 +1,82 @@
+package io.github.isharipov.acme.platform.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7Test {
+
+    @Test
+    void generate_shouldSetVersionAndVariant() {
+        // GIVEN
+        var before = System.currentTimeMillis();
+        // WHEN
+        var uuid = UuidV7.generate();
+        // THEN
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue((uuid.getMostSignificantBits() >>> 16) >= before);
+    }
+
+    @Test
+    void generate_shouldBeStrictlyIncreasing_whenCalledInTightLoop() {
+        // GIVEN
+        var previous = UuidV7.generate();
+        for (int i = 0; i < 100_000; i++) {
+            // WHEN
+            var next = UuidV7.generate();
+            // THEN
+            assertTrue(compareUnsigned(previous, next) < 0, previous + " >= " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void generate_shouldBeUnique_whenCalledConcurrently() {
+        // GIVEN
+        var tasks = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    var ids = new ArrayList<UUID>(10_000);
+                    for (int j = 0; j < 10_000; j++) {
+                        ids.add(UuidV7.generate());
+                    }
+                    return ids;
+                }))
+                .toList();
+        // WHEN
+        var all = new ArrayList<UUID>();
+        tasks.forEach(task -> all.addAll(task.join()));
+        // THEN
+        assertEquals(all.size(), new HashSet<>(all).size());
+        var prefixes = all.stream().map(UUID::getMostSignificantBits).toList();
+        assertEquals(prefixes.size(), new HashSet<>(prefixes).size());
+    }
+
+    @Test
+    void of_shouldSortByTimestampThenCounter() {
+        // GIVEN
+        var ids = new ArrayList<>(List.of(
+                UuidV7.of(2, 0, -1L),
+                UuidV7.of(1, 4095, 0L),
+                UuidV7.of(1, 0, -1L)));
+        // WHEN
+        Collections.shuffle(ids);
+        ids.sort(UuidV7Test::compareUnsigned);
+        // THEN
+        assertEquals(List.of(UuidV7.of(1, 0, -1L), UuidV7.of(1, 4095, 0L), UuidV7.of(2, 0, -1L)), ids);
+    }
+
+    private static int compareUnsigned(UUID left, UUID right) {
+        var result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+}
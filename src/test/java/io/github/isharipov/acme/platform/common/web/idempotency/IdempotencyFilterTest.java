@@ -0,0 +1,166 @@
+package io.github.isharipov.acme.platform.common.web.idempotency;
+
+import io.github.isharipov.acme.platform.common.exception.ErrorResponseWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IdempotencyFilterTest {
+
+    private final IdempotentResponseStore store = new IdempotentResponseStore(DataSize.ofMegabytes(1), Duration.ofMinutes(1), new SimpleMeterRegistry());
+    private final IdempotencyFilter filter = new IdempotencyFilter(store, new ErrorResponseWriter(new HttpMessageConverters()),
+            Set.of("/api/projects/external"), DataSize.ofKilobytes(1), Duration.ofSeconds(5));
+
+    @Test
+    void doFilter_shouldReplayStoredResponse_whenKeyIsRepeated() throws Exception {
+        // GIVEN
+        var executions = new AtomicInteger();
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            request.getInputStream().readAllBytes();
+            var httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(201);
+            httpResponse.setContentType("application/json");
+            httpResponse.getWriter().write("{\"id\":" + executions.get() + "}");
+        };
+        // WHEN
+        var first = perform(chain, "key-1", "{}");
+        var second = perform(chain, "key-1", "{}");
+        // THEN
+        assertEquals(1, executions.get());
+        assertEquals(201, second.getStatus());
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertEquals("true", second.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER));
+        assertNull(first.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER));
+    }
+
+    @Test
+    void doFilter_shouldRunAgain_whenFirstResponseWasServerError() throws Exception {
+        // GIVEN
+        var executions = new AtomicInteger();
+        FilterChain chain = (request, response) -> ((HttpServletResponse) response).setStatus(executions.incrementAndGet() == 1 ? 503 : 200);
+        // WHEN
+        perform(chain, "key-2", "{}");
+        var second = perform(chain, "key-2", "{}");
+        // THEN
+        assertEquals(2, executions.get());
+        assertEquals(200, second.getStatus());
+    }
+
+    @Test
+    void doFilter_shouldRejectKey_whenReusedWithDifferentBody() throws Exception {
+        // GIVEN
+        FilterChain chain = (request, response) -> ((HttpServletResponse) response).setStatus(201);
+        perform(chain, "key-3", "{\"name\":\"a\"}");
+        // WHEN
+        var second = perform(chain, "key-3", "{\"name\":\"b\"}");
+        // THEN
+        assertEquals(422, second.getStatus());
+    }
+
+    @Test
+    void doFilter_shouldWaitForInFlightRequest_whenDuplicateArrivesConcurrently() throws Exception {
+        // GIVEN
+        var executions = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ((HttpServletResponse) response).setStatus(201);
+        };
+        var first = CompletableFuture.supplyAsync(() -> performUnchecked(chain, "key-4", "{}"));
+        started.await(5, TimeUnit.SECONDS);
+        // WHEN
+        var second = CompletableFuture.supplyAsync(() -> performUnchecked(chain, "key-4", "{}"));
+        release.countDown();
+        // THEN
+        assertEquals(201, first.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(201, second.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void doFilter_shouldRejectBody_whenLargerThanLimit() throws Exception {
+        // GIVEN
+        var executions = new AtomicInteger();
+        FilterChain chain = (request, response) -> executions.incrementAndGet();
+        // WHEN
+        var response = perform(chain, "key-5", "x".repeat(1025));
+        // THEN
+        assertEquals(413, response.getStatus());
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    void doFilter_shouldPassThrough_whenPathIsNotCovered() throws Exception {
+        // GIVEN
+        var executions = new AtomicInteger();
+        FilterChain chain = (request, response) -> ((HttpServletResponse) response).setStatus(200 + executions.incrementAndGet());
+        // WHEN
+        perform(chain, "/api/admin/users/import", "127.0.0.1", "key-6", "{}");
+        perform(chain, "/api/admin/users/import", "127.0.0.1", "key-6", "{}");
+        // THEN
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void doFilter_shouldScopeAnonymousKeys_byClientAddress() throws Exception {
+        // GIVEN
+        var executions = new AtomicInteger();
+        FilterChain chain = (request, response) -> ((HttpServletResponse) response).setStatus(201);
+        perform(chain, "/api/projects/external", "10.0.0.1", "key-7", "{\"name\":\"a\"}");
+        // WHEN
+        var other = perform((request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(201);
+        }, "/api/projects/external", "10.0.0.2", "key-7", "{\"name\":\"b\"}");
+        // THEN
+        assertEquals(201, other.getStatus());
+        assertEquals(1, executions.get());
+        assertNull(other.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER));
+    }
+
+    private MockHttpServletResponse perform(FilterChain chain, String key, String body) throws Exception {
+        return perform(chain, "/api/projects/external", "127.0.0.1", key, body);
+    }
+
+    private MockHttpServletResponse perform(FilterChain chain, String uri, String remoteAddr, String key, String body) throws Exception {
+        var request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse performUnchecked(FilterChain chain, String key, String body) {
+        try {
+            return perform(chain, key, body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -152,15 +152,15 @@ class AcceptanceFlowTestIT {
                         .header("Authorization", "Bearer " + accessToken))
                 .andExpect(status().isNoContent());
 
-        // ACCESS AFTER DELETE -> 404
+        // ACCESS AFTER DELETE WITH REVOKED TOKEN -> 401
         mockMvc.perform(get("/api/users/me")
                         .header("Authorization", "Bearer " + accessToken))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isUnauthorized());
 
-        // RE-DELETE -> 404
+        // RE-DELETE WITH REVOKED TOKEN -> 401
         mockMvc.perform(delete("/auth/user")
                         .header("Authorization", "Bearer " + accessToken))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isUnauthorized());
 
         // REGISTER SAME USER AGAIN AFTER DELETION -> should restore
         mockMvc.perform(post("/auth/register")
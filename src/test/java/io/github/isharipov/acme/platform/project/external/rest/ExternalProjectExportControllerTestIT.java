@@ -0,0 +1,158 @@
+package io.github.isharipov.acme.platform.project.external.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.javafaker.Faker;
+import io.github.isharipov.acme.platform.auth.rest.dto.AuthInboundDto;
+import io.github.isharipov.acme.platform.auth.rest.dto.RegisterInboundDto;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectInboundDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.cloud.vault.enabled=false"
+        }
+)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ExternalProjectExportControllerTestIT {
+
+    private static final String PASSWORD = "StrongPassword123!";
+    private static final String ADMIN_EMAIL = "admin@acme.test";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldStreamCurrentUserProjects_asNdjson() throws Exception {
+        // GIVEN
+        var token = register(new Faker().internet().emailAddress());
+        var userId = getUserId(token);
+        var externalIds = List.of(createProject(token, userId), createProject(token, userId), createProject(token, userId));
+
+        // WHEN
+        var response = mockMvc.perform(get("/api/users/me/projects/export")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // THEN
+        assertEquals(externalIds, externalIds(response));
+    }
+
+    @Test
+    void shouldReturnNotFound_whenExportedUserDoesNotExist() throws Exception {
+        // GIVEN
+        var token = register(new Faker().internet().emailAddress());
+        // WHEN
+        // THEN
+        mockMvc.perform(get("/api/users/" + UUID.randomUUID() + "/projects/export")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldStreamAllProjects_whenUserIsAdmin() throws Exception {
+        // GIVEN
+        var token = register(new Faker().internet().emailAddress());
+        var externalId = createProject(token, getUserId(token));
+
+        // WHEN
+        var response = mockMvc.perform(get("/api/admin/projects/export")
+                        .header("Authorization", "Bearer " + adminToken()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // THEN
+        assertTrue(externalIds(response).contains(externalId));
+    }
+
+    @Test
+    void shouldForbidExportOfAllProjects_whenUserIsNotAdmin() throws Exception {
+        // GIVEN
+        var token = register(new Faker().internet().emailAddress());
+        // WHEN
+        // THEN
+        mockMvc.perform(get("/api/admin/projects/export")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    private List<String> externalIds(String ndjson) throws Exception {
+        var externalIds = new ArrayList<String>();
+        for (var line : ndjson.split("\n")) {
+            externalIds.add(objectMapper.readTree(line).get("externalId").asText());
+        }
+        return externalIds;
+    }
+
+    private String createProject(String token, UUID userId) throws Exception {
+        var externalId = UUID.randomUUID().toString();
+        mockMvc.perform(post("/api/projects/external")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ExternalProjectInboundDto(externalId, "name", userId))))
+                .andExpect(status().isCreated());
+        return externalId;
+    }
+
+    private String adminToken() throws Exception {
+        var register = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(ADMIN_EMAIL, PASSWORD))))
+                .andReturn()
+                .getResponse();
+        if (register.getStatus() == 201) {
+            return objectMapper.readTree(register.getContentAsString()).at("/token/accessToken").asText();
+        }
+        var login = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthInboundDto(ADMIN_EMAIL, PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(login.getResponse().getContentAsString()).at("/token/accessToken").asText();
+    }
+
+    private String register(String email) throws Exception {
+        var response = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(email, PASSWORD))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).at("/token/accessToken").asText();
+    }
+
+    private UUID getUserId(String token) throws Exception {
+        var profile = mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return UUID.fromString(objectMapper.readTree(profile.getResponse().getContentAsString()).get("id").asText());
+    }
+}
@@ -1,6 +1,8 @@
 package io.github.isharipov.acme.platform.project.external.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.github.javafaker.Faker;
 import io.github.isharipov.acme.platform.auth.rest.dto.AuthInboundDto;
 import io.github.isharipov.acme.platform.auth.rest.dto.RegisterInboundDto;
@@ -14,9 +16,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
 import java.util.UUID;
 
+import static io.github.isharipov.acme.platform.common.jdbc.SqlStatementMatchers.sqlStatements;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,6 +37,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class UserExternalProjectControllerTestIT {
 
     private static final String PASSWORD = "StrongPassword123!";
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
 
     @Autowired
     private MockMvc mockMvc;
@@ -59,6 +66,7 @@ class UserExternalProjectControllerTestIT {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(inboundDto)))
                 .andExpect(status().isCreated())
+                .andExpect(sqlStatements(3))
                 .andExpect(jsonPath("$.id").isNotEmpty())
                 .andExpect(jsonPath("$.name").value("JIRA-123"))
                 .andExpect(jsonPath("$.externalId").value(inboundDto.externalId()));
@@ -100,6 +108,7 @@ class UserExternalProjectControllerTestIT {
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(updateDto)))
                 .andExpect(status().isOk())
+                .andExpect(sqlStatements(2))
                 .andExpect(jsonPath("$.id").value(createdId.toString()))
                 .andExpect(jsonPath("$.name").value("JIRA-UPDATED"))
                 .andExpect(jsonPath("$.externalId").value(createDto.externalId()));
@@ -208,6 +217,139 @@ class UserExternalProjectControllerTestIT {
     }
 
 
+    @Test
+    void shouldReportOutcomePerItem_whenBatchIsIngested() throws Exception {
+        // GIVEN
+        var faker = new Faker();
+        var email = faker.internet().emailAddress();
+        register(email);
+        var accessToken = loginAndGetToken(email);
+        var userId = getUserId(accessToken);
+
+        var externalId = faker.internet().uuid();
+        var batch = List.of(
+                new ExternalProjectInboundDto(externalId, "JIRA-BATCH", userId),
+                new ExternalProjectInboundDto(externalId, "JIRA-BATCH-AGAIN", userId),
+                new ExternalProjectInboundDto("", "JIRA-BLANK", userId),
+                new ExternalProjectInboundDto(faker.internet().uuid(), "JIRA-UNKNOWN", UUID.randomUUID())
+        );
+
+        // WHEN
+        // THEN
+        mockMvc.perform(post("/api/projects/external/batch")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").isNotEmpty())
+                .andExpect(jsonPath("$[1].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$[2].status").value("INVALID"))
+                .andExpect(jsonPath("$[3].status").value("INVALID"))
+                .andExpect(jsonPath("$[3].message").value("User Profile not found"));
+    }
+
+    @Test
+    void shouldSkipOrUpdateExistingProjects_dependingOnConflictMode() throws Exception {
+        // GIVEN
+        var faker = new Faker();
+        var email = faker.internet().emailAddress();
+        register(email);
+        var accessToken = loginAndGetToken(email);
+        var userId = getUserId(accessToken);
+
+        var externalId = faker.internet().uuid();
+        var created = mockMvc.perform(post("/api/projects/external/batch")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(new ExternalProjectInboundDto(externalId, "JIRA-OLD", userId)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andReturn();
+        var createdId = objectMapper.readTree(created.getResponse().getContentAsString()).at("/0/id").asText();
+        var renamed = objectMapper.writeValueAsString(List.of(new ExternalProjectInboundDto(externalId, "JIRA-NEW", userId)));
+
+        // WHEN
+        // THEN
+        mockMvc.perform(post("/api/projects/external/batch")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(renamed))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("SKIPPED"))
+                .andExpect(jsonPath("$[0].id").value(createdId));
+        mockMvc.perform(post("/api/projects/external/batch")
+                        .param("onConflict", "UPDATE")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(renamed))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$[0].id").value(createdId));
+        mockMvc.perform(get("/api/users/me/projects")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("JIRA-NEW"));
+    }
+
+    @Test
+    void shouldExchangeProjectsAsSmileAndCbor_whenRequested() throws Exception {
+        // GIVEN
+        var faker = new Faker();
+        var email = faker.internet().emailAddress();
+        register(email);
+        var accessToken = loginAndGetToken(email);
+        var userId = getUserId(accessToken);
+        var inboundDto = new ExternalProjectInboundDto(faker.internet().uuid(), "JIRA-BIN", userId);
+
+        // WHEN
+        var created = mockMvc.perform(post("/api/projects/external")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(SMILE)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(new SmileMapper().writeValueAsBytes(inboundDto)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        var projects = mockMvc.perform(get("/api/users/" + userId + "/projects")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn();
+
+        // THEN
+        var createdProject = new CBORMapper().readTree(created.getResponse().getContentAsByteArray());
+        assertEquals(inboundDto.externalId(), createdProject.get("externalId").asText());
+        var page = new SmileMapper().readTree(projects.getResponse().getContentAsByteArray());
+        assertEquals(createdProject.get("id").asText(), page.at("/content/0/id").asText());
+    }
+
+    @Test
+    void shouldWriteErrorsInAcceptedRepresentation() throws Exception {
+        // GIVEN
+        var email = new Faker().internet().emailAddress();
+        register(email);
+        var accessToken = loginAndGetToken(email);
+        // WHEN
+        var unauthorized = mockMvc.perform(get("/api/users/me/projects")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        var invalid = mockMvc.perform(post("/api/projects/external")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(SMILE)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(SMILE))
+                .andReturn();
+        // THEN
+        assertEquals("Authentication failed", new CBORMapper().readTree(unauthorized.getResponse().getContentAsByteArray()).get("message").asText());
+        assertEquals("Validation error", new SmileMapper().readTree(invalid.getResponse().getContentAsByteArray()).get("message").asText());
+    }
+
     private void register(String email) throws Exception {
         mockMvc.perform(post("/auth/register")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,71 @@
+package io.github.isharipov.acme.platform.project.external.service.impl;
+
+import io.github.isharipov.acme.platform.project.external.repository.ExternalProjectBatchRepository;
+import io.github.isharipov.acme.platform.project.external.repository.ExternalProjectBatchRepository.UpsertedProject;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectBatchResultOutboundDto.Status;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectInboundDto;
+import io.github.isharipov.acme.platform.project.external.service.ExternalProjectBatchService.ConflictMode;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExternalProjectBatchServiceImplTest {
+
+    @Mock
+    private ExternalProjectBatchRepository externalProjectBatchRepository;
+    @Mock
+    private Validator validator;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExternalProjectBatchServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExternalProjectBatchServiceImpl(externalProjectBatchRepository, validator, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void upsertProjects_shouldReportStoredIdAsUpdated_whenRowWasInsertedConcurrently() {
+        // GIVEN
+        var storedId = UUID.randomUUID();
+        var project = new ExternalProjectInboundDto("ext-123", "name", null);
+        // WHEN
+        when(externalProjectBatchRepository.upsertAll(any(), anyBoolean(), any()))
+                .thenReturn(Map.of("ext-123", new UpsertedProject(storedId, false)));
+        var results = service.upsertProjects(List.of(project), ConflictMode.UPDATE);
+        // THEN
+        assertEquals(Status.UPDATED, results.get(0).status());
+        assertEquals(storedId, results.get(0).id());
+        verify(externalProjectBatchRepository, never()).findExistingProjects(any());
+    }
+
+    @Test
+    void upsertProjects_shouldReportSkippedWithoutId_whenRowWasInsertedConcurrently() {
+        // GIVEN
+        var project = new ExternalProjectInboundDto("ext-123", "name", null);
+        // WHEN
+        when(externalProjectBatchRepository.findExistingProjects(any())).thenReturn(Map.of());
+        when(externalProjectBatchRepository.upsertAll(any(), anyBoolean(), any())).thenReturn(Map.of());
+        var results = service.upsertProjects(List.of(project), ConflictMode.SKIP);
+        // THEN
+        assertEquals(Status.SKIPPED, results.get(0).status());
+        assertNull(results.get(0).id());
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.isharipov.acme.platform.user.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.javafaker.Faker;
+import io.github.isharipov.acme.platform.auth.rest.dto.RegisterInboundDto;
+import io.github.isharipov.acme.platform.common.web.reactive.ReactiveReadServer;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectInboundDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.cloud.vault.enabled=false"
+        }
+)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReactiveUserProfileRouterTestIT {
+
+    private static final String PASSWORD = "StrongPassword123!";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveReadServer.getPort())
+                .build();
+    }
+
+    @Test
+    void shouldReturnCurrentUserProfile() throws Exception {
+        // GIVEN
+        var email = new Faker().internet().emailAddress();
+        var token = register(email);
+        // WHEN
+        // THEN
+        webTestClient.get().uri("/api/users/me")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isNotEmpty()
+                .jsonPath("$.email").isEqualTo(email);
+    }
+
+    @Test
+    void shouldSliceCurrentUserProjects_withCursorSharedWithServletApi() throws Exception {
+        // GIVEN
+        var token = register(new Faker().internet().emailAddress());
+        var userId = getUserId(token);
+        for (int i = 0; i < 3; i++) {
+            createProject(token, userId);
+        }
+
+        // WHEN
+        var firstSlice = webTestClient.get().uri("/api/users/me/projects?size=2")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.nextCursor").isNotEmpty()
+                .returnResult()
+                .getResponseBody();
+        var nextCursor = objectMapper.readTree(firstSlice).at("/nextCursor").asText();
+
+        // THEN
+        webTestClient.get().uri(uri -> uri.path("/api/users/{userId}/projects")
+                        .queryParam("cursor", nextCursor)
+                        .queryParam("size", 2)
+                        .build(userId))
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.nextCursor").doesNotExist();
+        mockMvc.perform(get("/api/users/me/projects")
+                        .param("cursor", nextCursor)
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    void shouldReturnNotFound_whenUserDoesNotExist() throws Exception {
+        // GIVEN
+        var token = register(new Faker().internet().emailAddress());
+        // WHEN
+        // THEN
+        webTestClient.get().uri("/api/users/{userId}/projects", UUID.randomUUID())
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("User Profile not found");
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCursorOrSizeIsInvalid() throws Exception {
+        // GIVEN
+        var token = register(new Faker().internet().emailAddress());
+        // WHEN
+        // THEN
+        webTestClient.get().uri("/api/users/me/projects?cursor=not-a-cursor")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.get().uri("/api/users/me/projects?size=101")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldReturnUnauthorized_whenTokenIsMissingOrInvalid() {
+        // GIVEN
+        // WHEN
+        // THEN
+        webTestClient.get().uri("/api/users/me")
+                .exchange()
+                .expectStatus().isUnauthorized();
+        webTestClient.get().uri("/api/users/me")
+                .header("Authorization", "Bearer invalid.token.value")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    private String register(String email) throws Exception {
+        var response = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(email, PASSWORD))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).at("/token/accessToken").asText();
+    }
+
+    private UUID getUserId(String token) throws Exception {
+        var profile = mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return UUID.fromString(objectMapper.readTree(profile.getResponse().getContentAsString()).get("id").asText());
+    }
+
+    private void createProject(String token, UUID userId) throws Exception {
+        mockMvc.perform(post("/api/projects/external")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ExternalProjectInboundDto(UUID.randomUUID().toString(), "name", userId))))
+                .andExpect(status().isCreated());
+    }
+}
@@ -4,18 +4,28 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javafaker.Faker;
 import io.github.isharipov.acme.platform.auth.rest.dto.AuthInboundDto;
 import io.github.isharipov.acme.platform.auth.rest.dto.RegisterInboundDto;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectInboundDto;
+import io.github.isharipov.acme.platform.project.external.rest.dto.ExternalProjectUpdateInboundDto;
 import io.github.isharipov.acme.platform.user.rest.dto.UserProfileInboundDto;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.UUID;
 
+import static io.github.isharipov.acme.platform.common.jdbc.SqlStatementMatchers.sqlStatements;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -104,6 +114,7 @@ class UserProfileControllerTestIT {
         mockMvc.perform(get("/api/users/" + userId + "/projects")
                         .header("Authorization", "Bearer " + accessToken))
                 .andExpect(status().isOk())
+                .andExpect(sqlStatements(2))
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.content").isEmpty());
     }
@@ -260,4 +271,210 @@ class UserProfileControllerTestIT {
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.content").isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldPageCurrentUserProjectsByCursor() throws Exception {
+        // GIVEN
+        var email = new Faker().internet().emailAddress();
+        mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(email, PASSWORD))))
+                .andExpect(status().isCreated());
+
+        var loginResult = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthInboundDto(email, PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var accessToken = objectMapper.readTree(loginResult.getResponse().getContentAsString())
+                .at("/token/accessToken").asText();
+
+        var profileResult = mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        var userId = UUID.fromString(objectMapper.readTree(profileResult.getResponse().getContentAsString())
+                .at("/id").asText());
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/projects/external")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new ExternalProjectInboundDto(UUID.randomUUID().toString(), "project-" + i, userId))))
+                    .andExpect(status().isCreated());
+        }
+
+        // WHEN
+        var firstSlice = mockMvc.perform(get("/api/users/me/projects")
+                        .param("cursor", "")
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(1))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+        var nextCursor = objectMapper.readTree(firstSlice.getResponse().getContentAsString())
+                .at("/nextCursor").asText();
+
+        // THEN
+        mockMvc.perform(get("/api/users/" + userId + "/projects")
+                        .param("cursor", nextCursor)
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(1))
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCursorIsMalformed() throws Exception {
+        // GIVEN
+        var email = new Faker().internet().emailAddress();
+        mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(email, PASSWORD))))
+                .andExpect(status().isCreated());
+
+        var loginResult = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthInboundDto(email, PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var accessToken = objectMapper.readTree(loginResult.getResponse().getContentAsString())
+                .at("/token/accessToken").asText();
+        // WHEN
+        // THEN
+        mockMvc.perform(get("/api/users/me/projects")
+                        .param("cursor", "not-a-cursor")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnNotModified_whenProfileIsUnchanged() throws Exception {
+        // GIVEN
+        var email = new Faker().internet().emailAddress();
+        var register = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(email, PASSWORD))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var accessToken = objectMapper.readTree(register.getResponse().getContentAsString())
+                .at("/token/accessToken").asText();
+        var eTag = mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // WHEN
+        // THEN
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put("/api/users/me")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserProfileInboundDto("renamed"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.name").value("renamed"));
+    }
+
+    @Test
+    void shouldTagEachRepresentationSeparately_andVaryByAccept() throws Exception {
+        // GIVEN
+        var email = new Faker().internet().emailAddress();
+        var register = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(email, PASSWORD))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var accessToken = objectMapper.readTree(register.getResponse().getContentAsString())
+                .at("/token/accessToken").asText();
+        var jsonETag = mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // WHEN
+        // THEN
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonETag)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, not(jsonETag)))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    void shouldReturnNotModified_whenProjectPageIsUnchanged() throws Exception {
+        // GIVEN
+        var email = new Faker().internet().emailAddress();
+        var register = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterInboundDto(email, PASSWORD))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var accessToken = objectMapper.readTree(register.getResponse().getContentAsString())
+                .at("/token/accessToken").asText();
+        var profile = mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andReturn();
+        var userId = UUID.fromString(objectMapper.readTree(profile.getResponse().getContentAsString()).get("id").asText());
+        var project = mockMvc.perform(post("/api/projects/external")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ExternalProjectInboundDto(UUID.randomUUID().toString(), "name", userId))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var projectId = objectMapper.readTree(project.getResponse().getContentAsString()).get("id").asText();
+        var eTag = mockMvc.perform(get("/api/users/me/projects")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // WHEN
+        // THEN
+        mockMvc.perform(get("/api/users/me/projects")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(sqlStatements(1))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put("/api/projects/external/" + projectId)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ExternalProjectUpdateInboundDto("renamed", null))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/me/projects")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.content[0].name").value("renamed"));
+    }
+}
@@ -12,12 +12,16 @@ import io.github.isharipov.acme.platform.user.domain.UserProfileProjection;
 import io.github.isharipov.acme.platform.user.repository.UserProfileRepository;
 import io.github.isharipov.acme.platform.user.rest.dto.CreateUserProfileInboundDto;
 import io.github.isharipov.acme.platform.user.rest.dto.UserProfileInboundDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,6 +41,9 @@ class UserProfileServiceImplTest {
     @Mock
     private UserExternalProjectService userExternalProjectService;
 
+    @Spy
+    private UserProfileCache userProfileCache = new UserProfileCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
     @InjectMocks
     private UserProfileServiceImpl service;
 
@@ -196,4 +203,86 @@ class UserProfileServiceImplTest {
 
         verify(userProfileMapper).toOutboundUserDto(projection, principal.email());
     }
+
+    @Test
+    void getVersionedUserProfileByAuthId_shouldMapProfile_onlyWhenBodyIsRequested() {
+        // GIVEN
+        var projection = mock(UserProfileProjection.class);
+        when(projection.getId()).thenReturn(id);
+        when(projection.getUpdatedAt()).thenReturn(Instant.EPOCH);
+        // WHEN
+        when(userProfileRepository.findByAuthIdAndDeletedFalse(principal.authId())).thenReturn(Optional.of(projection));
+        var versioned = service.getVersionedUserProfileByAuthId(principal);
+        when(projection.getUpdatedAt()).thenReturn(Instant.EPOCH.plusMillis(1));
+        // THEN
+        verifyNoInteractions(userProfileMapper);
+        assertNotEquals(versioned.eTag(), service.getVersionedUserProfileByAuthId(principal).eTag());
+
+        versioned.body().get();
+        verify(userProfileMapper).toOutboundUserDto(projection, principal.email());
+    }
+
+    @Test
+    void getUserById_shouldHitRepositoryOnce_whenCalledRepeatedly() {
+        // GIVEN
+        var projection = mock(UserProfileProjection.class);
+        // WHEN
+        when(userProfileRepository.findByIdAndDeletedFalse(id)).thenReturn(Optional.of(projection));
+        service.getUserById(id);
+        service.getUserById(id);
+        // THEN
+        verify(userProfileRepository, times(1)).findByIdAndDeletedFalse(id);
+        verify(userProfileMapper, times(2)).toOutboundUserDto(projection);
+    }
+
+    @Test
+    void getUserProfileByAuthId_shouldReload_whenProfileWasUpdated() {
+        // GIVEN
+        var projection = mock(UserProfileProjection.class);
+        var profile = new UserProfile();
+        profile.setAuthId(principal.authId());
+        // WHEN
+        when(userProfileRepository.findByAuthIdAndDeletedFalse(principal.authId())).thenReturn(Optional.of(projection));
+        when(userProfileRepository.findEntityByAuthIdAndDeletedFalse(principal.authId())).thenReturn(Optional.of(profile));
+        when(userProfileRepository.save(profile)).thenReturn(profile);
+        service.getUserProfileByAuthId(principal);
+        service.updateUserProfile(principal, mock(UserProfileInboundDto.class));
+        service.getUserProfileByAuthId(principal);
+        // THEN
+        verify(userProfileRepository, times(2)).findByAuthIdAndDeletedFalse(principal.authId());
+    }
+
+    @Test
+    void getUserById_shouldNotCache_whenNotFound() {
+        // GIVEN
+        // WHEN
+        when(userProfileRepository.findByIdAndDeletedFalse(id)).thenReturn(Optional.empty());
+        assertThrows(UserProfileNotFoundException.class, () -> service.getUserById(id));
+        assertThrows(UserProfileNotFoundException.class, () -> service.getUserById(id));
+        // THEN
+        verify(userProfileRepository, times(2)).findByIdAndDeletedFalse(id);
+    }
+
+    @Test
+    void getProfileId_shouldUseToken_whenProfileIdIsPresent() {
+        // GIVEN
+        var withProfile = new Principal(principal.authId(), principal.email(), id, null, null);
+        // WHEN
+        var result = service.getProfileId(withProfile);
+        // THEN
+        assertEquals(id, result);
+        verifyNoInteractions(userProfileRepository);
+    }
+
+    @Test
+    void getProfileId_shouldLookUp_whenTokenHasNoProfileId() {
+        // GIVEN
+        var projection = mock(UserProfileProjection.class);
+        // WHEN
+        when(userProfileRepository.findByAuthIdAndDeletedFalse(principal.authId())).thenReturn(Optional.of(projection));
+        when(userProfileMapper.toOutboundUserDto(projection, principal.email())).thenReturn(new UserProfileOutboundDto(id, principal.email(), null));
+        var result = service.getProfileId(principal);
+        // THEN
+        assertEquals(id, result);
+    }
 }